@@ -0,0 +1,44 @@
+package com.sparklenote.paper.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * paper 이벤트 한 건을 구독자 수만큼 전송할 때의 인코딩 비용 비교
+ * @memo : perSubscriber = 구독자마다 DTO 생성 + JSON 직렬화 (기존 방식), once = frame 한 번 생성 후 공유
+ * @memo : 실행 - ./gradlew jmhJar 후 java -jar build/libs/sparkle-note-0.0.1-SNAPSHOT-jmh.jar PaperEventFrameBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaperEventFrameBenchmark {
+
+    @Param({"1", "10", "40", "100"})
+    private int subscriberCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Benchmark
+    public void perSubscriber(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < subscriberCount; i++) {
+            PaperResponseDTO dto = new PaperResponseDTO(1L, 1L, "졸업 축하해! 항상 응원할게", "홍길동", "STUDENT");
+            blackhole.consume(PaperEventFrame.of("create", objectMapper.writeValueAsString(dto)));
+        }
+    }
+
+    @Benchmark
+    public void once(Blackhole blackhole) throws Exception {
+        PaperResponseDTO dto = new PaperResponseDTO(1L, 1L, "졸업 축하해! 항상 응원할게", "홍길동", "STUDENT");
+        PaperEventFrame frame = PaperEventFrame.of("create", objectMapper.writeValueAsString(dto));
+        for (int i = 0; i < subscriberCount; i++) {
+            blackhole.consume(frame.getItems());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparklenote.paper.ingest;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 반(40명)이 동시에 paper를 쓸 때의 insert 처리량 비교 (초당 paper 수)
+ * @memo : identity = insert마다 auto_increment id를 받아오는 기존 방식 (JDBC batch 불가, 건마다 commit)
+ * @memo : batch = id를 미리 받아 두고 40건을 한 번에 batch insert 후 한 번 commit (write-behind 방식)
+ * @memo : H2 인메모리라 네트워크 왕복이 없으므로 실제 MySQL에서는 차이가 더 커짐
+ * @memo : 실행 - ./gradlew jmhJar 후 java -jar build/libs/sparkle-note-0.0.1-SNAPSHOT-jmh.jar PaperInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaperInsertBenchmark {
+
+    private static final int CLASS_SIZE = 40;
+    private static final String CREATE_TABLE = "create table Paper (" +
+            "paper_id bigint not null auto_increment, created_at timestamp(6), updated_at timestamp(6), " +
+            "content varchar(255), created_by varchar(16), roll_id bigint, student_id bigint, user_id bigint, " +
+            "primary key (paper_id))";
+
+    private Connection connection;
+    private final AtomicLong nextId = new AtomicLong(1_000_000_000L);
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        // jmh jar 안에서는 java.sql.Driver 서비스 파일이 MySQL 드라이버로 덮이므로 H2 드라이버를 직접 사용
+        connection = new org.h2.Driver().connect("jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1", new Properties());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists Paper");
+            statement.execute(CREATE_TABLE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CLASS_SIZE)
+    public long identity() throws SQLException {
+        connection.setAutoCommit(true);
+        long lastId = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into Paper (created_at, updated_at, content, created_by, roll_id, student_id) values (?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < CLASS_SIZE; i++) {
+                bind(statement, 1, i);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CLASS_SIZE)
+    public int[] batch() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into Paper (paper_id, created_at, updated_at, content, created_by, roll_id, student_id) values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < CLASS_SIZE; i++) {
+                statement.setLong(1, nextId.incrementAndGet());
+                bind(statement, 2, i);
+                statement.addBatch();
+            }
+            int[] counts = statement.executeBatch();
+            connection.commit();
+            return counts;
+        }
+    }
+
+    private static void bind(PreparedStatement statement, int index, int student) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        statement.setTimestamp(index, now);
+        statement.setTimestamp(index + 1, now);
+        statement.setString(index + 2, "졸업 축하해! 항상 응원할게");
+        statement.setString(index + 3, "STUDENT");
+        statement.setLong(index + 4, 1L);
+        statement.setLong(index + 5, student);
+    }
+}
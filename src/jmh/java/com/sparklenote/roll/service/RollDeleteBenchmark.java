@@ -0,0 +1,153 @@
+package com.sparklenote.roll.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * paper 10,000개(학생 40명)인 roll 삭제 시간 비교 (ms)
+ * @memo : cascade = 기존 rollRepository.delete(roll) 방식 재현 (학생 목록, 학생별 paper 목록 조회 후 id로 한 건씩 DELETE, hibernate batch_size 50)
+ * @memo : bulk = RollService.deleteRoll의 방식 (sticker, paper, 학생, roll 테이블마다 DELETE 한 번)
+ * @memo : cascade는 선생님 paper, sticker가 있으면 FK 위반으로 실패하므로 학생 paper만 넣고 비교
+ * @memo : JDBC로만 재현해서 cascade 쪽의 엔티티 10,000개 생성, 영속성 컨텍스트 관리 비용은 빠져 있음
+ * @memo : H2 인메모리라 네트워크 왕복이 없으므로 실제 MySQL에서는 차이가 더 커짐
+ * @memo : 실행 - ./gradlew jmhJar 후 java -jar build/libs/sparkle-note-0.0.1-SNAPSHOT-jmh.jar RollDeleteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RollDeleteBenchmark {
+
+    private static final int STUDENTS = 40;
+    private static final int PAPERS = 10_000;
+    private static final int BATCH_SIZE = 50;
+    private static final long ROLL_ID = 1L;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        // jmh jar 안에서는 java.sql.Driver 서비스 파일이 MySQL 드라이버로 덮이므로 H2 드라이버를 직접 사용
+        connection = new org.h2.Driver().connect("jdbc:h2:mem:roll-delete;MODE=MySQL;DB_CLOSE_DELAY=-1", new Properties());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists Sticker");
+            statement.execute("drop table if exists Paper");
+            statement.execute("drop table if exists Student");
+            statement.execute("drop table if exists Roll");
+            statement.execute("create table Roll (roll_id bigint not null, roll_name varchar(255), primary key (roll_id))");
+            statement.execute("create table Student (student_id bigint not null auto_increment, name varchar(255), " +
+                    "roll_id bigint not null, primary key (student_id), foreign key (roll_id) references Roll (roll_id))");
+            statement.execute("create table Paper (paper_id bigint not null auto_increment, content varchar(255), " +
+                    "roll_id bigint, student_id bigint, primary key (paper_id), " +
+                    "foreign key (roll_id) references Roll (roll_id), foreign key (student_id) references Student (student_id))");
+            statement.execute("create table Sticker (sticker_id bigint not null auto_increment, sticker_name varchar(255), " +
+                    "paper_id bigint, primary key (sticker_id), foreign key (paper_id) references Paper (paper_id))");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    // 측정마다 같은 크기의 roll을 다시 채움 (측정 시간에는 포함되지 않음)
+    @Setup(Level.Invocation)
+    public void fillRoll() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement roll = connection.prepareStatement("insert into Roll (roll_id, roll_name) values (?, ?)");
+             PreparedStatement student = connection.prepareStatement(
+                     "insert into Student (name, roll_id) values (?, ?)", Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement paper = connection.prepareStatement(
+                     "insert into Paper (content, roll_id, student_id) values (?, ?, ?)")) {
+            roll.setLong(1, ROLL_ID);
+            roll.setString(2, "3학년 2반");
+            roll.executeUpdate();
+
+            List<Long> studentIds = new ArrayList<>();
+            for (int i = 0; i < STUDENTS; i++) {
+                student.setString(1, "학생" + i);
+                student.setLong(2, ROLL_ID);
+                student.executeUpdate();
+                try (ResultSet keys = student.getGeneratedKeys()) {
+                    keys.next();
+                    studentIds.add(keys.getLong(1));
+                }
+            }
+            for (int i = 0; i < PAPERS; i++) {
+                paper.setString(1, "졸업 축하해! 항상 응원할게");
+                paper.setLong(2, ROLL_ID);
+                paper.setLong(3, studentIds.get(i % STUDENTS));
+                paper.addBatch();
+            }
+            paper.executeBatch();
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public int cascade() throws SQLException {
+        List<Long> studentIds = selectIds("select student_id from Student where roll_id = ?", ROLL_ID);
+        List<Long> paperIds = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            paperIds.addAll(selectIds("select paper_id from Paper where student_id = ?", studentId));
+        }
+        int deleted = deleteById("delete from Paper where paper_id = ?", paperIds)
+                + deleteById("delete from Student where student_id = ?", studentIds)
+                + deleteById("delete from Roll where roll_id = ?", List.of(ROLL_ID));
+        connection.commit();
+        return deleted;
+    }
+
+    @Benchmark
+    public int bulk() throws SQLException {
+        int deleted = deleteByRoll("delete from Sticker where paper_id in (select paper_id from Paper where roll_id = ?)")
+                + deleteByRoll("delete from Paper where roll_id = ?")
+                + deleteByRoll("delete from Student where roll_id = ?")
+                + deleteByRoll("delete from Roll where roll_id = ?");
+        connection.commit();
+        return deleted;
+    }
+
+    private List<Long> selectIds(String sql, long id) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private int deleteById(String sql, List<Long> ids) throws SQLException {
+        int deleted = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < ids.size(); i++) {
+                statement.setLong(1, ids.get(i));
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i == ids.size() - 1) {
+                    for (int count : statement.executeBatch()) {
+                        deleted += count;
+                    }
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private int deleteByRoll(String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ROLL_ID);
+            return statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparklenote.roll.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * roll URL 생성 처리량 비교 (초당 생성 수)
+ * @memo : uuidPrefix = 기존 방식의 URL 생성 부분만 측정 (실제로는 생성할 때마다 existsByUrl 쿼리가 추가됨)
+ * @memo : snowflake = DB 확인 없이 바로 사용하는 현재 방식
+ * @memo : 실행 - ./gradlew jmhJar 후 java -jar build/libs/sparkle-note-0.0.1-SNAPSHOT-jmh.jar UrlGeneratorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class UrlGeneratorBenchmark {
+
+    private final UrlGenerator urlGenerator = new UrlGenerator(1);
+
+    @Benchmark
+    public String uuidPrefix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return urlGenerator.generateUrl();
+    }
+}
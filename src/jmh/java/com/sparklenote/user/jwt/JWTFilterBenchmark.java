@@ -0,0 +1,59 @@
+package com.sparklenote.user.jwt;
+
+import com.sparklenote.domain.enumType.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTFilter가 요청 한 건마다 토큰을 처리하는 비용 비교
+ * @memo : fiveParses = isExpired, isValidToken, getUsername, getRole, getName이 각각 parser를 만들어 검증 (기존 방식)
+ * @memo : verifyOnce = 재사용하는 parser로 한 번만 검증하고 claim을 모두 꺼냄
+ * @memo : 실행 - ./gradlew jmhJar 후 java -jar build/libs/sparkle-note-0.0.1-SNAPSHOT-jmh.jar JWTFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTFilterBenchmark {
+
+    private static final String SECRET = "sparkle-note-benchmark-secret-key-for-hs256";
+
+    private SecretKey secretKey;
+    private JWTUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        jwtUtil = new JWTUtil(SECRET);
+        token = jwtUtil.createAccessToken("teacher@test.com", "선생님", Role.TEACHER, 3_600_000L);
+    }
+
+    @Benchmark
+    public void fiveParses(Blackhole blackhole) {
+        blackhole.consume(parse().getExpiration());
+        blackhole.consume(parse());
+        blackhole.consume(parse().get("username", String.class));
+        blackhole.consume(parse().get("role", String.class));
+        blackhole.consume(parse().get("name", String.class));
+    }
+
+    @Benchmark
+    public void verifyOnce(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.verify(token));
+    }
+
+    private Claims parse() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -3,7 +3,7 @@ package com.sparklenote.common.config;
 import com.sparklenote.user.handler.CustomLogoutHandler;
 import com.sparklenote.user.handler.CustomSuccessHandler;
 import com.sparklenote.user.jwt.JWTFilter;
-import com.sparklenote.user.jwt.JWTUtil;
+import com.sparklenote.user.jwt.VerifiedTokenCache;
 import com.sparklenote.user.oAuth2.CustomOAuth2UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -36,7 +36,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
     private final CustomLogoutHandler customLogoutHandler;
-    private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Bean
     @Order(1)  // shutdown endpoint에 대해서 가장 먼저 필터체인 적용
@@ -89,7 +89,7 @@ public class SecurityConfig {
 
 //JWTFilter 추가
         http
-                .addFilterAfter(new JWTFilter(jwtUtil), OAuth2LoginAuthenticationFilter.class);
+                .addFilterAfter(new JWTFilter(verifiedTokenCache), OAuth2LoginAuthenticationFilter.class);
 
         //oauth2
         http
@@ -158,6 +158,8 @@ public class SecurityConfig {
                 antMatcher(POST, "/paper/rolls/*"),
                 antMatcher(PUT, "/paper/*"),
                 antMatcher(GET, "/paper/rolls/*"),
+                antMatcher(GET, "/paper/rolls/*/sse"),
+                antMatcher(GET, "/paper/rolls/*/changes"),
                 antMatcher(DELETE, "/paper/*")
         );
         return requestMatchers.toArray(RequestMatcher[]::new);
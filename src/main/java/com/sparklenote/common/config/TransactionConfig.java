@@ -0,0 +1,27 @@
+package com.sparklenote.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메소드 일부만 트랜잭션으로 묶을 때 사용하는 TransactionTemplate
+ * @memo : 트랜잭션이 시작되면 바로 커넥션을 잡으므로, 외부 호출(OAuth2, Redis, SSE 전송)은 트랜잭션 밖에서 처리
+ * @memo : 주입받는 필드 이름(transactionTemplate, readOnlyTransactionTemplate)으로 구분
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    @Bean
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparklenote.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * replica를 사용하는 경우, readOnly 트랜잭션이라도 primary에서 읽어야 하는 구간을 지정
+ * @memo : 커넥션을 실제로 꺼내는 시점(첫 쿼리)에 판단하므로, 트랜잭션 안이라도 아직 쿼리 전이면 적용됨
+ * @memo : replica를 사용하지 않으면 아무 영향 없음
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static <T> T primary(Supplier<T> reader) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY.get());
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparklenote.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 replica, 나머지는 primary로 보내는 DataSource
+ * @memo : 트랜잭션 시작 시점에는 readOnly 여부가 아직 등록되지 않으므로 LazyConnectionDataSourceProxy로 감싸서 첫 쿼리 때 커넥션을 꺼내야 함
+ * @memo : DataSourceRouting.primary 구간이면 readOnly여도 primary (방금 쓴 데이터를 읽는 경우)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (DataSourceRouting.isPrimaryRequired()) {
+            return Target.PRIMARY;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Target.REPLICA : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,89 @@
+package com.sparklenote.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 변경 직후 일정 시간(replica 복제 지연) 동안은 해당 roll/선생님의 조회를 primary에서 읽도록 함
+ * @memo : 학생이 paper를 쓰고 바로 목록을 다시 받아도, 선생님이 roll을 만들고 바로 목록을 봐도 변경이 보이도록
+ * @memo : 다른 노드에서 조회할 수 있으므로 Redis에 만료 시간과 함께 기록 (이 노드의 기록은 로컬에서 먼저 확인)
+ * @memo : Redis 장애로 확인하지 못하면 primary에서 읽음
+ * @memo : replica를 설정하지 않았으면(datasource.replica.url) 아무것도 하지 않음
+ */
+@Slf4j
+@Component
+public class ReadYourWrites {
+
+    private static final String KEY_PREFIX = "rw:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final Duration window;
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWrites(StringRedisTemplate stringRedisTemplate,
+                          @Value("${datasource.replica.url:}") String replicaUrl,
+                          @Value("${datasource.replica.read-your-writes-window:3s}") Duration window) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = !replicaUrl.isBlank();
+        this.window = window;
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void rollWritten(Long rollId) {
+        written("roll:" + rollId);
+    }
+
+    public void userWritten(Long userId) {
+        written("user:" + userId);
+    }
+
+    public <T> T readRoll(Long rollId, Supplier<T> reader) {
+        return read("roll:" + rollId, reader);
+    }
+
+    public <T> T readUser(Long userId, Supplier<T> reader) {
+        return read("user:" + userId, reader);
+    }
+
+    private void written(String scope) {
+        if (!enabled) {
+            return;
+        }
+        recentWrites.put(scope, Boolean.TRUE);
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + scope, "1", window);
+        } catch (Exception e) {
+            log.error("최근 변경 기록 실패 - 다른 노드는 복제 지연 동안 이전 데이터를 읽을 수 있음 (scope: {})", scope, e);
+        }
+    }
+
+    private <T> T read(String scope, Supplier<T> reader) {
+        if (!enabled || !recentlyWritten(scope)) {
+            return reader.get();
+        }
+        return DataSourceRouting.primary(reader);
+    }
+
+    private boolean recentlyWritten(String scope) {
+        if (recentWrites.getIfPresent(scope) != null) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + scope));
+        } catch (Exception e) {
+            log.warn("최근 변경 확인 실패 - primary에서 조회 (scope: {})", scope, e);
+            return true;
+        }
+    }
+}
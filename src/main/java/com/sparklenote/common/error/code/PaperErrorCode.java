@@ -7,7 +7,9 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum PaperErrorCode implements BaseErrorCode{
     PAPER_NOT_FOUND(404, "Paper를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
-    PAPER_DELETE_FORBIDDEN(403, "Paper 삭제 권한이 없습니다.", HttpStatus.FORBIDDEN);
+    PAPER_DELETE_FORBIDDEN(403, "Paper 삭제 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    INVALID_PAPER_CURSOR(400, "잘못된 Paper 목록 커서입니다.", HttpStatus.BAD_REQUEST),
+    SSE_CONNECTION_LIMIT_EXCEEDED(503, "실시간 연결 수가 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final int errorCode;
     private final String errorMessage;
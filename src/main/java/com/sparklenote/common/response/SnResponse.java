@@ -12,6 +12,8 @@ public class SnResponse<T> {
 	private String message;
 	@JsonInclude(JsonInclude.Include.NON_NULL)
 	private T data;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String nextCursor; // 커서 기반 목록 조회 시 다음 페이지 커서
 
 	public SnResponse(T data) {
 		this.code = SUCCESS.getCode();
@@ -24,4 +26,9 @@ public class SnResponse<T> {
 		this.message = statusCode.getMessage();
 		this.data = data;
 	}
+
+	public SnResponse(GlobalSuccessCode statusCode, T data, String nextCursor) {
+		this(statusCode, data);
+		this.nextCursor = nextCursor;
+	}
 }
@@ -0,0 +1,63 @@
+package com.sparklenote.common.transaction;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 트랜잭션 시작부터 commit/rollback까지의 시간을 transaction 타이머로 기록
+ * @memo : 트랜잭션이 시작되면 커넥션을 잡으므로, 이 시간이 곧 요청이 커넥션을 점유한 시간 (커넥션 대기 시간은 hikaricp.connections.acquire)
+ * @memo : Spring Boot가 등록된 listener를 트랜잭션 매니저에 붙여줌 (바깥 트랜잭션에 참여하는 경우는 기록되지 않음)
+ */
+@Component
+public class TransactionMetricsListener implements TransactionExecutionListener {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TransactionExecution, Timer.Sample> running = new ConcurrentHashMap<>();
+
+    public TransactionMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        running.put(transaction, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null) {
+            // 커넥션을 얻지 못한 경우 (pool 대기 시간 초과 등)
+            stop(transaction, "begin-failed");
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        stop(transaction, commitFailure == null ? "commit" : "commit-failed");
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        stop(transaction, "rollback");
+    }
+
+    private void stop(TransactionExecution transaction, String outcome) {
+        Timer.Sample sample = running.remove(transaction);
+        if (sample == null) {
+            return;
+        }
+        sample.stop(Timer.builder("transaction")
+                .description("트랜잭션 시작부터 종료까지의 시간")
+                .tag("read-only", String.valueOf(transaction.isReadOnly()))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
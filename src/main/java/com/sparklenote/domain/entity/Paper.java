@@ -11,14 +11,26 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 연관관계는 모두 LAZY, 수정/삭제처럼 작성자(이름, 권한 확인)가 필요한 경우에만 한 번의 조인으로 함께 조회
+@NamedEntityGraph(name = Paper.WITH_AUTHOR, attributeNodes = {
+        @NamedAttributeNode("student"),
+        @NamedAttributeNode("user")
+})
 @Getter
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Paper extends BaseTimeEntity {
 
+    // IdBlock 테이블에서 한 번에 할당받는 id 개수 (IDENTITY는 insert마다 id를 받아와야 해서 JDBC batch가 꺼짐)
+    public static final int ID_BLOCK_SIZE = 50;
+
+    public static final String WITH_AUTHOR = "Paper.withAuthor";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "paper_id")
+    @TableGenerator(name = "paper_id", table = "IdBlock", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "paper", allocationSize = ID_BLOCK_SIZE)
     @Column(name = "paper_id")
     private Long id;
 
@@ -26,18 +38,18 @@ public class Paper extends BaseTimeEntity {
 
     private String sticker;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "roll_id")
     private Roll roll;
 
     @OneToMany(mappedBy = "paper")
     private List<Sticker> stickers = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id")
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")    // User(teacher) 추가
     private User user;
 
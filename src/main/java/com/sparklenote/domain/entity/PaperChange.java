@@ -0,0 +1,53 @@
+package com.sparklenote.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * roll별 paper 변경 로그 (델타 동기화용)
+ * @memo : version = paper 이벤트 id (PaperEventSequence), roll 안에서 1씩 증가
+ * @memo : paper가 삭제돼도 tombstone으로 남아야 하므로 연관관계 없이 id만 저장
+ * @memo : 최근 PaperChangeService.MAX_CHANGES개 버전 앞의 로그는 기록 시 정리되고, roll 삭제 시 함께 삭제
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_paper_change_roll_version", columnNames = {"roll_id", "version"}))
+public class PaperChange extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "paper_change_id")
+    private Long id;
+
+    @Column(name = "roll_id", nullable = false)
+    private Long rollId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "paper_id", nullable = false)
+    private Long paperId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static PaperChange of(Long rollId, Long version, Long paperId, Type type) {
+        return PaperChange.builder()
+                .rollId(rollId)
+                .version(version)
+                .paperId(paperId)
+                .type(type)
+                .build();
+    }
+}
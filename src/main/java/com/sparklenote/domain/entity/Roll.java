@@ -15,6 +15,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_roll_url", columnNames = "url"))
 public class Roll extends BaseTimeEntity {
 
     @Id
@@ -30,11 +31,12 @@ public class Roll extends BaseTimeEntity {
 
     private String url;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @OneToMany(mappedBy = "roll", cascade = CascadeType.ALL)
+    // 삭제는 RollService.deleteRoll의 일괄 DELETE로 처리 (cascade로 학생/paper를 하나씩 조회, 삭제하지 않도록)
+    @OneToMany(mappedBy = "roll")
     private List<Student> students = new ArrayList<>();
 
     @OneToMany(mappedBy = "roll")
@@ -21,7 +21,7 @@ public class Sticker {
     @Column(name = "sticker_name")
     private String stickerName;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "paper_id")
     private Paper paper;
 }
@@ -15,6 +15,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_student_roll_name_pin", columnNames = {"roll_id", "name", "pin_number"}))
 public class Student extends BaseTimeEntity {
 
     @Id
@@ -30,11 +31,11 @@ public class Student extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private Role role;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "roll_id", nullable = false)
     private Roll roll;
 
     @Builder.Default
-    @OneToMany(mappedBy = "student", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "student")
     private List<Paper> papers = new ArrayList<>();
 }
@@ -14,6 +14,7 @@ import java.util.List;
 @Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_username", columnNames = "username"))
 public class User extends BaseTimeEntity{
 
     @Id
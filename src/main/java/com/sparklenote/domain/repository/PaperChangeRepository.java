@@ -0,0 +1,30 @@
+package com.sparklenote.domain.repository;
+
+import com.sparklenote.domain.entity.PaperChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface PaperChangeRepository extends JpaRepository<PaperChange, Long> {
+
+    // roll의 since 이후 변경 로그를 버전 순으로 조회 (uk_paper_change_roll_version 범위 스캔)
+    List<PaperChange> findByRollIdAndVersionGreaterThanOrderByVersion(Long rollId, Long version, Pageable pageable);
+
+    // 보관 기간 정리용 : roll의 version 이하 로그를 DELETE 한 번으로 삭제 (같은 인덱스 범위 삭제)
+    @Transactional
+    @Modifying
+    @Query("delete from PaperChange c where c.rollId = :rollId and c.version <= :version")
+    int bulkDeleteByRollIdUpTo(@Param("rollId") Long rollId, @Param("version") Long version);
+
+    // roll 삭제용 : roll의 변경 로그를 DELETE 한 번으로 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from PaperChange c where c.rollId = :rollId")
+    int bulkDeleteByRollId(@Param("rollId") Long rollId);
+}
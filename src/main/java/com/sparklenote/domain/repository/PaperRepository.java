@@ -1,13 +1,68 @@
 package com.sparklenote.domain.repository;
 
 import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.paper.dto.request.PaperCursor;
+import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * @memo : 인터페이스에 선언한 조회 메소드도 readOnly 트랜잭션으로 실행 (replica 라우팅 기준, 상속한 save/delete는 SimpleJpaRepository의 쓰기 트랜잭션)
+ */
 @Repository
+@Transactional(readOnly = true)
 public interface PaperRepository extends JpaRepository<Paper, Long> {
     List<Paper> findByRoll_Id(Long rollId);
 
+    // roll 삭제용 : 학생/선생님 paper를 모두 DELETE 한 번으로 삭제 (엔티티 조회 X, sticker를 먼저 지워야 함)
+    @Transactional
+    @Modifying
+    @Query("delete from Paper p where p.roll.id = :rollId")
+    int bulkDeleteByRollId(@Param("rollId") Long rollId);
+
+    // 수정/삭제용 : 권한 확인(학생 id)과 응답(작성자 이름)에 필요한 작성자를 한 번의 조인으로 함께 조회
+    @EntityGraph(Paper.WITH_AUTHOR)
+    Optional<Paper> findWithAuthorById(Long id);
+
+    // roll의 paper 목록을 응답 DTO 형태로 한 번의 조인 쿼리로 조회 (연관 엔티티 추가 조회 X)
+    // 커서(마지막으로 받은 paper의 created_at, id) 이후부터 조회하는 keyset 페이지네이션 (offset을 쓰지 않아 뒤쪽 페이지도 느려지지 않음)
+    // 생성 시각 순서, 같은 시각이면 id 순서 (id는 노드별 블록 할당이라 생성 순서와 다를 수 있음, idx_paper_roll_created 사용)
+    @Query("select new com.sparklenote.paper.dto.response.PaperResponseDTO(" +
+            " s.id, p.id, p.content," +
+            " case when p.createdBy = com.sparklenote.domain.entity.Paper.CreatedBy.STUDENT then s.name else u.name end," +
+            " case when p.createdBy = com.sparklenote.domain.entity.Paper.CreatedBy.STUDENT then 'STUDENT' else 'TEACHER' end," +
+            " p.createdAt)" +
+            " from Paper p left join p.student s left join p.user u" +
+            " where p.roll.id = :rollId" +
+            " and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :paperId))" +
+            " order by p.createdAt, p.id")
+    List<PaperResponseDTO> findResponsesByRollIdAfter(@Param("rollId") Long rollId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("paperId") Long paperId,
+                                                      Pageable pageable);
+
+    default List<PaperResponseDTO> findResponsesByRollId(Long rollId, PaperCursor cursor, Pageable pageable) {
+        return findResponsesByRollIdAfter(rollId, cursor.createdAt(), cursor.paperId(), pageable);
+    }
+
+    // 델타 동기화에서 생성/수정된 paper들을 응답 DTO 형태로 한 번에 조회
+    @Query("select new com.sparklenote.paper.dto.response.PaperResponseDTO(" +
+            " s.id, p.id, p.content," +
+            " case when p.createdBy = com.sparklenote.domain.entity.Paper.CreatedBy.STUDENT then s.name else u.name end," +
+            " case when p.createdBy = com.sparklenote.domain.entity.Paper.CreatedBy.STUDENT then 'STUDENT' else 'TEACHER' end)" +
+            " from Paper p left join p.student s left join p.user u" +
+            " where p.id in :ids" +
+            " order by p.id")
+    List<PaperResponseDTO> findResponsesByIds(@Param("ids") Collection<Long> ids);
 }
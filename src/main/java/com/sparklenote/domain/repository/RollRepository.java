@@ -3,14 +3,26 @@ package com.sparklenote.domain.repository;
 import com.sparklenote.domain.entity.Roll;
 import com.sparklenote.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface RollRepository extends JpaRepository<Roll, Long> {
+    // 학생 입장용 : roll만 조회 (선생님(user)은 LAZY라 조회하지 않음)
     Optional<Roll> findByUrl(String url);
     boolean existsByUrl(String url);
     List<Roll> findAllByUser(User user);
+
+    // roll 삭제용 : 학생, paper를 먼저 지운 뒤 roll만 삭제 (cascade로 자식 엔티티를 조회하지 않음)
+    @Transactional
+    @Modifying
+    @Query("delete from Roll r where r.id = :rollId")
+    int bulkDeleteById(@Param("rollId") Long rollId);
 }
@@ -2,9 +2,18 @@ package com.sparklenote.domain.repository;
 
 import com.sparklenote.domain.entity.Sticker;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface StickerRepository extends JpaRepository<Sticker, Long> {
 
+    // roll 삭제용 : roll에 속한 paper의 sticker를 DELETE 한 번으로 삭제 (엔티티 조회 X)
+    @Transactional
+    @Modifying
+    @Query("delete from Sticker s where s.paper.id in (select p.id from Paper p where p.roll.id = :rollId)")
+    int bulkDeleteByRollId(@Param("rollId") Long rollId);
 }
@@ -2,13 +2,35 @@ package com.sparklenote.domain.repository;
 
 import com.sparklenote.domain.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+@Transactional(readOnly = true)
 public interface StudentRepository extends JpaRepository<Student, Long> {
     
     // 클래스 코드, 이름, 핀번호로 학생을 찾는 메소드
     Optional<Student> findByNameAndPinNumberAndRollId(String name, String pinNumber,Long id);
     Optional<Student> findByName(String username);
+
+    // roll 삭제용 : roll의 학생을 DELETE 한 번으로 삭제 (엔티티 조회 X, paper를 먼저 지워야 함)
+    @Transactional
+    @Modifying
+    @Query("delete from Student s where s.roll.id = :rollId")
+    int bulkDeleteByRollId(@Param("rollId") Long rollId);
+
+    /**
+     * 학생 등록 (입장 시 신규 학생)
+     * @memo : 별도 트랜잭션으로 바로 flush -> 유니크 제약(uk_student_roll_name_pin) 위반을 호출한 쪽에서 즉시 받아서 재조회할 수 있음
+     * @memo : 바깥 트랜잭션이 있어도 제약 위반으로 rollback-only가 되지 않도록 REQUIRES_NEW
+     * @memo : REQUIRES_NEW라 바깥 트랜잭션이 열려 있으면 그 커넥션을 잡은 채 pool에서 커넥션을 하나 더 꺼냄 -> 조회 트랜잭션이 끝난 뒤 호출 (RollService.joinRoll)
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    <S extends Student> S saveAndFlush(S entity);
 }
 
@@ -0,0 +1,71 @@
+package com.sparklenote.paper.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparklenote.paper.dto.request.PaperCursor;
+import com.sparklenote.paper.dto.response.PaperPageDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * roll별 paper 목록 조회 결과를 보관하는 로컬 캐시
+ * @memo : 수업 시작 시 여러 학생이 동시에 입장해도 roll당 DB 조회는 한 번만 일어나도록 사용
+ * @memo : 페이지(roll, 버전, cursor, size) 단위로 하나의 캐시에 보관 -> 크기 제한, hit/miss 통계도 페이지 단위
+ * @memo : paper 생성/수정/삭제 시 roll의 세대(generation)를 올려서 이전 페이지를 모두 무효화 (남은 페이지는 조회되지 않다가 크기 제한/만료로 빠짐)
+ * @memo : 다른 노드의 변경은 PaperEventRelay가 이벤트를 받을 때 비움
+ * @memo : 조회 시 roll 버전(PaperEventSequence)을 넘기면 그 버전으로 조회한 페이지만 사용 (이벤트가 도착하기 전이라도 이전 버전의 페이지는 사용하지 않음)
+ */
+@Component
+public class PaperListCache {
+
+    private final Cache<PageKey, PaperPageDTO> pages;
+    private final Cache<Long, Long> generations;
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    public PaperListCache(@Value("${paper.cache.max-pages:10000}") long maxPages,
+                          @Value("${paper.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                          MeterRegistry meterRegistry) {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        // 세대 기록이 빠져도 다시 받는 값은 이전 세대 이상이고, 그 사이 evict가 없었다면 같은 세대라 이전 페이지도 유효함
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .expireAfterAccess(expireAfterWrite)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "paper.list");
+    }
+
+    /**
+     * 캐시된 페이지를 반환하고, 없으면 loader로 조회해서 저장
+     * @memo : 같은 페이지를 동시에 요청하면 한 요청만 DB를 조회하고 나머지는 그 결과를 기다림
+     * @memo : 조회 중 evict되면 이전 세대의 키로 저장되므로 이전 목록이 다시 조회되지 않음
+     */
+    public PaperPageDTO get(Long rollId, PaperCursor cursor, int size, Supplier<PaperPageDTO> loader) {
+        return get(rollId, null, cursor, size, loader);
+    }
+
+    /**
+     * roll 버전을 알고 있을 때의 조회 (ETag 응답용)
+     * @memo : version이 null이면 버전 비교 없이 현재 세대의 페이지 사용
+     */
+    public PaperPageDTO get(Long rollId, Long version, PaperCursor cursor, int size, Supplier<PaperPageDTO> loader) {
+        long generation = generations.get(rollId, id -> generationSequence.get());
+        return pages.get(new PageKey(rollId, generation, version, cursor, size), key -> loader.get());
+    }
+
+    public void evict(Long rollId) {
+        generations.put(rollId, generationSequence.incrementAndGet());
+    }
+
+    private record PageKey(Long rollId, long generation, Long version, PaperCursor cursor, int size) {
+    }
+}
@@ -2,14 +2,20 @@ package com.sparklenote.paper.controller;
 
 import com.sparklenote.common.response.SnResponse;
 import com.sparklenote.paper.dto.request.PaperRequestDTO;
+import com.sparklenote.paper.dto.response.PaperChangesDTO;
+import com.sparklenote.paper.dto.response.PaperPageDTO;
 import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import com.sparklenote.paper.event.PaperEventSequence;
+import com.sparklenote.paper.service.PaperChangeService;
 import com.sparklenote.paper.service.PaperService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +28,8 @@ import static com.sparklenote.common.code.GlobalSuccessCode.SUCCESS;
 public class PaperController {
 
     private final PaperService paperService;
+    private final PaperEventSequence paperEventSequence;
+    private final PaperChangeService paperChangeService;
 
     @Operation(summary = "Create paper", description = "paper 생성")
     @PostMapping("/rolls/{rollId}")
@@ -50,12 +58,36 @@ public class PaperController {
                 .body(new SnResponse<>(SUCCESS, responseDTO));
     }
 
-    @Operation(summary = "Get papers by roll", description = "roll에 속한 paper 조회")
+    /**
+     * roll paper 목록 조회
+     * @memo : ETag = roll 버전(paper 생성/수정/삭제마다 증가), If-None-Match가 같으면 DB 조회/직렬화 없이 304 응답
+     * @memo : Redis 장애로 버전을 모르면 ETag 없이 항상 200 응답
+     */
+    @Operation(summary = "Get papers by roll", description = "roll에 속한 paper 조회 (cursor: 이전 응답의 nextCursor, size: 최대 100, If-None-Match 지원)")
     @GetMapping("/rolls/{rollId}")
     public ResponseEntity<SnResponse<List<PaperResponseDTO>>> getPapersByRollId(
-            @PathVariable(name = "rollId") Long rollId) {
-        List<PaperResponseDTO> papers = paperService.getPapers(rollId);
+            @PathVariable(name = "rollId") Long rollId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "" + PaperService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
+        Long version = paperEventSequence.version(rollId);
+        if (version != null && webRequest.checkNotModified("\"" + rollId + "-" + version + "\"")) {
+            return null; // 304 (ETag 헤더는 checkNotModified가 설정)
+        }
+
+        PaperPageDTO page = paperService.getPapers(rollId, version, cursor, size);
+        return ResponseEntity.status(SUCCESS.getStatus())
+                .cacheControl(CacheControl.noCache()) // 저장은 허용하고 매번 ETag로 재검증
+                .body(new SnResponse<>(SUCCESS, page.getPapers(), page.getNextCursor()));
+    }
+
+    @Operation(summary = "Get paper changes", description = "since 버전 이후 생성/수정/삭제된 paper만 조회 (since: ETag, 입장 응답의 rollVersion 또는 이전 응답의 version)")
+    @GetMapping("/rolls/{rollId}/changes")
+    public ResponseEntity<SnResponse<PaperChangesDTO>> getPaperChanges(
+            @PathVariable(name = "rollId") Long rollId,
+            @RequestParam(name = "since") long since) {
+        PaperChangesDTO changes = paperChangeService.getChanges(rollId, since);
         return ResponseEntity.status(SUCCESS.getStatus())
-                .body(new SnResponse<>(SUCCESS, papers));
+                .body(new SnResponse<>(SUCCESS, changes));
     }
-}
\ No newline at end of file
+}
@@ -1,41 +1,35 @@
 package com.sparklenote.paper.controller;
 
+import com.sparklenote.paper.event.PaperEventHub;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
+@Tag(name = "2. Paper Controller", description = "페이퍼 CRUD API")
 @RestController
 @RequestMapping("/paper")
 @RequiredArgsConstructor
 public class PaperSseController {
 
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final PaperEventHub paperEventHub;
 
     /**
-     * 클라이언트가 SSE 구독을 시작할 때 호출되는 엔드포인트
-     * @memo : emitter List 안에 클라이언트가 들어가면 바뀐 이벤트 정보를 수신하고 실시간 UI 반영
+     * 클라이언트가 roll의 SSE 구독을 시작할 때 호출되는 엔드포인트
+     * @memo : 구독한 roll에서 발생한 paper 이벤트만 수신하고 실시간 UI 반영
+     * @memo : 재연결 시 브라우저가 보내는 Last-Event-ID 이후 이벤트만 다시 전송 (RESYNC 수신 시 목록 재조회)
      */
-
-    @GetMapping("/sse")
-    public SseEmitter subscribeToPaperEvents() {
-        SseEmitter emitter = new SseEmitter(60 * 1000L); // 1분 동안 유지
-        emitters.add(emitter); // emitters 리스트에 추가
-
-        emitter.onCompletion(() -> emitters.remove(emitter)); // 오류나면 emitter 제거
-        emitter.onTimeout(() -> emitters.remove(emitter)); // 만료되면 emitter 제거
-
-        try {
-            // 처음 연결 시 초기화 데이터 전송
-            emitter.send(SseEmitter.event().name("INIT").data("SSE 연결이 시작되었습니다."));
-        } catch (Exception e) {
-            emitter.completeWithError(e);  // 연결 오류 시 처리
-        }
-        return emitter;
+    @Operation(summary = "Subscribe paper events", description = "roll의 paper 변경 이벤트 구독 (SSE)")
+    @GetMapping(value = "/rolls/{rollId}/sse", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToPaperEvents(
+            @PathVariable(name = "rollId") Long rollId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return paperEventHub.subscribe(rollId, lastEventId);
     }
 }
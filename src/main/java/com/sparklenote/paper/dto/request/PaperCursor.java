@@ -0,0 +1,43 @@
+package com.sparklenote.paper.dto.request;
+
+import com.sparklenote.common.exception.PaperException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static com.sparklenote.common.error.code.PaperErrorCode.INVALID_PAPER_CURSOR;
+
+/**
+ * paper 목록 keyset 페이지네이션 커서 (마지막으로 받은 paper의 created_at, paper_id)
+ * @memo : paper id는 노드별 IdBlock에서 할당되어 생성 순서와 다를 수 있으므로 id만으로는 커서를 만들 수 없음
+ * @memo : 문자열 형식은 "created_at(마이크로초)_paperId" (created_at은 시간대 변환 없이 그대로 숫자로 옮김)
+ */
+public record PaperCursor(LocalDateTime createdAt, Long paperId) {
+
+    // 첫 페이지 : 모든 paper보다 앞선 위치 (MySQL datetime 하한 이후의 값)
+    public static final PaperCursor FIRST = new PaperCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    public static PaperCursor parse(String cursor) {
+        if (cursor == null) {
+            return FIRST;
+        }
+        int separator = cursor.indexOf('_');
+        try {
+            long micros = Long.parseLong(cursor.substring(0, separator));
+            long paperId = Long.parseLong(cursor.substring(separator + 1));
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+                    (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1000, ZoneOffset.UTC);
+            return new PaperCursor(createdAt, paperId);
+        } catch (RuntimeException e) { // 구분자 없음, 숫자 아님, 범위 초과
+            throw new PaperException(INVALID_PAPER_CURSOR);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long micros = createdAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + createdAt.getNano() / 1000;
+        return micros + "_" + paperId;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparklenote.paper.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaperChangesDTO {
+    private Long version; // 여기까지 반영됨, 다음 요청의 since로 사용
+    private List<PaperResponseDTO> upserted; // since 이후 생성/수정된 paper (현재 내용)
+    private List<Long> deleted; // since 이후 삭제된 paper id (tombstone)
+    private boolean hasMore; // 남은 변경이 있으면 version으로 바로 다시 조회
+    private boolean reset; // 델타를 만들 수 없음 -> 전체 목록(GET /paper/rolls/{rollId})을 다시 조회
+}
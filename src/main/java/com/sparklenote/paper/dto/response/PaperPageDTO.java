@@ -0,0 +1,17 @@
+package com.sparklenote.paper.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaperPageDTO {
+    private List<PaperResponseDTO> papers;
+    private String nextCursor; // 다음 페이지 조회 시 사용할 커서 (PaperCursor 문자열, 마지막 페이지면 null)
+}
@@ -1,10 +1,13 @@
 package com.sparklenote.paper.dto.response;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -14,4 +17,10 @@ public class PaperResponseDTO {
     private String content;
     private String authorName;
     private String authorRole;
+    @JsonIgnore
+    private LocalDateTime createdAt; // 목록 조회의 다음 페이지 커서용 (응답에는 포함하지 않음)
+
+    public PaperResponseDTO(Long studentId, Long paperId, String content, String authorName, String authorRole) {
+        this(studentId, paperId, content, authorName, authorRole, null);
+    }
 }
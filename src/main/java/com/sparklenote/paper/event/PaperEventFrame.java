@@ -0,0 +1,63 @@
+package com.sparklenote.paper.event;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 미리 인코딩된 SSE 이벤트 레코드 (id:/event:/data: 라인)
+ * @memo : 변경 한 건당 한 번만 만들고 모든 구독자에게 같은 byte 배열을 그대로 전송
+ */
+public final class PaperEventFrame {
+
+    @Getter
+    private final Long id;
+    @Getter
+    private final String eventType;
+    private final byte[] bytes;
+    private final Set<DataWithMediaType> items;
+
+    private PaperEventFrame(Long id, String eventType, byte[] bytes) {
+        this.id = id;
+        this.eventType = eventType;
+        this.bytes = bytes;
+        this.items = Set.of(new DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+    }
+
+    public static PaperEventFrame of(String eventType, String data) {
+        return of(null, eventType, data);
+    }
+
+    // id가 있으면 클라이언트가 재연결 시 Last-Event-ID 헤더로 돌려보냄
+    public static PaperEventFrame of(Long id, String eventType, String data) {
+        StringBuilder sb = new StringBuilder();
+        if (id != null) {
+            sb.append("id:").append(id).append('\n');
+        }
+        sb.append("event:").append(eventType).append('\n');
+        // data에 줄바꿈이 있으면 줄마다 data: 접두어를 붙여야 함 (SSE 규격)
+        sb.append("data:").append(data.replace("\n", "\ndata:")).append("\n\n");
+        return new PaperEventFrame(id, eventType, sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 주석 frame (클라이언트 EventSource는 무시함) - 연결 유지 확인용 heartbeat에 사용
+    public static PaperEventFrame comment(String comment) {
+        return new PaperEventFrame(null, null, (":" + comment + "\n\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Set<DataWithMediaType> getItems() {
+        return items;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,299 @@
+package com.sparklenote.paper.event;
+
+import com.sparklenote.common.exception.PaperException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sparklenote.common.error.code.PaperErrorCode.SSE_CONNECTION_LIMIT_EXCEEDED;
+
+/**
+ * roll 단위로 SSE 구독자(emitter)를 관리하고 paper 이벤트를 전달하는 허브
+ * @memo : 이벤트는 해당 roll을 구독한 클라이언트에게만 전송됨 (전체 fan-out X)
+ * @memo : 실제 전송은 별도 dispatcher(virtual thread)에서 처리하므로 요청 스레드는 큐에 넣고 바로 반환
+ * @memo : 이벤트는 미리 인코딩된 같은 frame을 모든 구독자에게 전송
+ * @memo : 재연결 시 Last-Event-ID 이후 이벤트를 재전송 버퍼에서 다시 보내고, 불가능하면 RESYNC 이벤트 전송
+ * @memo : 단일 타이머 스레드가 주기적으로 heartbeat를 보내서 끊어진 연결을 미리 정리 (연결 수는 roll/노드 단위로 제한)
+ */
+@Slf4j
+@Component
+public class PaperEventHub {
+
+    private static final PaperEventFrame HEARTBEAT = PaperEventFrame.comment("heartbeat");
+    // 놓친 이벤트를 복구할 수 없으므로 클라이언트가 목록을 다시 조회하도록 알림
+    private static final PaperEventFrame RESYNC = PaperEventFrame.of("RESYNC", "이벤트를 복구할 수 없어 다시 조회가 필요합니다.");
+
+    private final Map<Long, List<PaperSseSubscriber>> subscribersByRoll = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService dispatcher = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("paper-sse-", 0).factory());
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("paper-sse-heartbeat").daemon().factory());
+
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+    private final int maxConnectionsPerRoll;
+    private final int maxConnectionsPerNode;
+    private final PaperEventReplayBuffer replayBuffer;
+    private final PaperEventSequence paperEventSequence;
+    private final Counter droppedSubscriberCounter;
+    private final Counter reapedSubscriberCounter;
+    private final Counter rejectedSubscriptionCounter;
+
+    public PaperEventHub(@Value("${sse.queue-capacity:64}") int queueCapacity,
+                         @Value("${sse.timeout:30m}") Duration timeout,
+                         @Value("${sse.heartbeat-interval:15s}") Duration heartbeatInterval,
+                         @Value("${sse.max-connections-per-roll:200}") int maxConnectionsPerRoll,
+                         @Value("${sse.max-connections-per-node:10000}") int maxConnectionsPerNode,
+                         PaperEventReplayBuffer replayBuffer,
+                         PaperEventSequence paperEventSequence,
+                         MeterRegistry meterRegistry) {
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxConnectionsPerRoll = maxConnectionsPerRoll;
+        this.maxConnectionsPerNode = maxConnectionsPerNode;
+        this.replayBuffer = replayBuffer;
+        this.paperEventSequence = paperEventSequence;
+        this.droppedSubscriberCounter = Counter.builder("paper.sse.subscribers.dropped")
+                .description("전송 큐가 가득 차서 연결이 끊긴 SSE 구독자 수")
+                .register(meterRegistry);
+        this.reapedSubscriberCounter = Counter.builder("paper.sse.subscribers.reaped")
+                .description("heartbeat 전송이 진행되지 않아 정리된 SSE 구독자 수")
+                .register(meterRegistry);
+        this.rejectedSubscriptionCounter = Counter.builder("paper.sse.subscriptions.rejected")
+                .description("연결 수 제한으로 거절된 SSE 구독 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("paper.sse.queue.depth", this, PaperEventHub::getTotalQueueDepth)
+                .description("전송 대기 중인 SSE 이벤트 수 (전체 구독자 합계)")
+                .register(meterRegistry);
+        Gauge.builder("paper.sse.subscribers", connectionCount, AtomicInteger::get)
+                .description("현재 연결된 SSE 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("paper.sse.rolls", subscribersByRoll, Map::size)
+                .description("구독자가 있는 roll 수")
+                .register(meterRegistry);
+        Gauge.builder("paper.sse.connections.max", () -> maxConnectionsPerNode)
+                .description("SSE 연결 수 제한")
+                .tag("scope", "node")
+                .register(meterRegistry);
+        Gauge.builder("paper.sse.connections.max", () -> maxConnectionsPerRoll)
+                .description("SSE 연결 수 제한")
+                .tag("scope", "roll")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void startHeartbeat() {
+        long intervalMillis = heartbeatInterval.toMillis();
+        heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * roll 구독 등록
+     * @param lastEventId 재연결한 클라이언트가 마지막으로 받은 이벤트 id (최초 연결이면 null)
+     */
+    public SseEmitter subscribe(Long rollId, Long lastEventId) {
+        // 동시에 들어온 요청끼리는 약간 초과할 수 있음 (정확한 제한보다 보호 목적)
+        if (connectionCount.get() >= maxConnectionsPerNode || getSubscriberCount(rollId) >= maxConnectionsPerRoll) {
+            rejectedSubscriptionCounter.increment();
+            throw new PaperException(SSE_CONNECTION_LIMIT_EXCEEDED);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        PaperSseSubscriber subscriber = new PaperSseSubscriber(rollId, emitter, queueCapacity);
+
+        try {
+            // 처음 연결 시 초기화 데이터 전송
+            emitter.send(SseEmitter.event().name("INIT").data("SSE 연결이 시작되었습니다."));
+        } catch (Exception e) {
+            emitter.completeWithError(e);  // 연결 오류 시 처리
+            return emitter;
+        }
+
+        // 재전송과 구독 등록 사이에 발행된 이벤트가 빠지지 않도록 같은 roll의 broadcast와 직렬화
+        PaperEventReplayBuffer.Ring ring = replayBuffer.ring(rollId);
+        synchronized (ring) {
+            if (lastEventId != null) {
+                replay(subscriber, ring, lastEventId);
+            }
+            subscribersByRoll.compute(rollId, (id, subscribers) -> {
+                List<PaperSseSubscriber> list = (subscribers == null) ? new CopyOnWriteArrayList<>() : subscribers;
+                list.add(subscriber);
+                return list;
+            });
+            connectionCount.incrementAndGet();
+        }
+
+        emitter.onCompletion(() -> remove(subscriber)); // 연결 종료 시 emitter 제거
+        emitter.onTimeout(() -> remove(subscriber)); // 만료되면 emitter 제거
+        emitter.onError(e -> remove(subscriber)); // 오류나면 emitter 제거
+
+        if (subscriber.hasPending()) {
+            scheduleDrain(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * 해당 roll의 구독자 큐에 이벤트를 넣고 즉시 반환
+     * @memo : 큐가 가득 찬 구독자는 따라오지 못하는 클라이언트로 보고 연결을 끊음 (재연결 유도)
+     */
+    public void broadcast(Long rollId, PaperEventFrame frame) {
+        List<PaperSseSubscriber> dropped = new ArrayList<>();
+
+        PaperEventReplayBuffer.Ring ring = replayBuffer.ring(rollId);
+        synchronized (ring) {
+            ring.append(frame);
+
+            List<PaperSseSubscriber> subscribers = subscribersByRoll.get(rollId);
+            if (subscribers == null) {
+                return;
+            }
+            subscribers.forEach(subscriber -> {
+                if (subscriber.offer(frame)) {
+                    scheduleDrain(subscriber);
+                } else {
+                    dropped.add(subscriber);
+                }
+            });
+        }
+
+        dropped.forEach(subscriber -> {
+            log.warn("SSE 전송 큐 초과로 구독자 연결 종료 - rollId: {}", rollId);
+            droppedSubscriberCounter.increment();
+            remove(subscriber);
+            subscriber.getEmitter().complete();
+        });
+    }
+
+    // 이 노드가 해당 roll의 이벤트를 받아야 하는지 (구독자가 있거나 재전송 버퍼를 유지 중인 경우)
+    public boolean isTracking(Long rollId) {
+        return getSubscriberCount(rollId) > 0 || replayBuffer.find(rollId) != null;
+    }
+
+    public int getSubscriberCount(Long rollId) {
+        List<PaperSseSubscriber> subscribers = subscribersByRoll.get(rollId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * 모든 구독자에게 heartbeat(주석 frame)를 보내고, 전송이 멈춘 연결은 정리
+     * @memo : 잠든 모바일 기기처럼 half-open 상태인 연결은 쓰기가 진행되지 않으므로 2번의 주기 동안 전송이 없으면 제거
+     */
+    void sendHeartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            long stallTimeoutMillis = heartbeatInterval.toMillis() * 2;
+
+            subscribersByRoll.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+                if (subscriber.isStalled(now, stallTimeoutMillis)) {
+                    log.debug("전송이 멈춘 SSE 구독자 정리 - rollId: {}", subscriber.getRollId());
+                    reapedSubscriberCounter.increment();
+                    remove(subscriber);
+                    subscriber.getEmitter().complete();
+                } else if (subscriber.offer(HEARTBEAT)) {
+                    scheduleDrain(subscriber);
+                }
+            }));
+        } catch (Exception e) {
+            // 예외가 나도 다음 주기 실행이 멈추지 않도록 처리
+            log.error("SSE heartbeat 전송 실패", e);
+        }
+    }
+
+    /**
+     * 놓친 이벤트(또는 RESYNC)를 구독자 큐에 넣음
+     * @memo : roll 락을 잡은 상태이므로 직접 전송하지 않고 다른 이벤트처럼 dispatcher가 전송 (느린 클라이언트가 broadcast를 막지 않도록)
+     */
+    private void replay(PaperSseSubscriber subscriber, PaperEventReplayBuffer.Ring ring, long lastEventId) {
+        Optional<List<PaperEventFrame>> missed = ring.isEmpty()
+                ? missedWhenBufferEmpty(subscriber.getRollId(), lastEventId)
+                : ring.since(lastEventId);
+
+        if (missed.isEmpty() || missed.get().size() >= queueCapacity) {
+            subscriber.offer(RESYNC); // 새 구독자의 빈 큐라 항상 들어감
+            return;
+        }
+        missed.get().forEach(subscriber::offer);
+    }
+
+    // 이 노드에 버퍼가 없으면 마지막 발급 id와 비교해서 놓친 이벤트가 있는지만 판단
+    private Optional<List<PaperEventFrame>> missedWhenBufferEmpty(Long rollId, long lastEventId) {
+        try {
+            return paperEventSequence.current(rollId) <= lastEventId ? Optional.of(List.of()) : Optional.empty();
+        } catch (Exception e) {
+            log.error("paper 이벤트 id 조회 실패 - rollId: {}", rollId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void scheduleDrain(PaperSseSubscriber subscriber) {
+        if (subscriber.tryStartDrain()) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(PaperSseSubscriber subscriber) {
+        try {
+            PaperEventFrame frame;
+            while ((frame = subscriber.poll()) != null) {
+                subscriber.send(frame);
+            }
+        } catch (Exception e) {
+            // 전송 실패한 구독자는 제거 (drain 상태를 유지해서 더 이상 전송 작업이 잡히지 않도록 함)
+            remove(subscriber);
+            subscriber.getEmitter().completeWithError(e);
+            return;
+        }
+
+        subscriber.finishDrain();
+        // finishDrain 직전에 들어온 이벤트가 있으면 다시 전송 작업 등록
+        if (subscriber.hasPending()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void remove(PaperSseSubscriber subscriber) {
+        // 마지막 구독자가 빠지면 roll 항목 자체를 제거해서 map이 계속 커지지 않도록 함
+        subscribersByRoll.computeIfPresent(subscriber.getRollId(), (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                connectionCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private double getTotalQueueDepth() {
+        return subscribersByRoll.values().stream()
+                .flatMap(List::stream)
+                .mapToInt(PaperSseSubscriber::getQueueSize)
+                .sum();
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparklenote.paper.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * paper 변경 이벤트를 발행하는 진입점
+ * @memo : 이 노드의 구독자에게 바로 전달하고, 다른 노드에는 Redis 채널로 전달
+ * @memo : 이벤트마다 roll 단위 id를 발급해서 재연결 시 놓친 이벤트를 찾을 수 있도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaperEventPublisher {
+
+    private final PaperEventHub paperEventHub;
+    private final PaperEventSequence paperEventSequence;
+    private final PaperEventRelay paperEventRelay;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 발급된 이벤트 id (직렬화 실패, Redis 장애 시 null)
+     */
+    public Long publish(Long rollId, String eventType, Object data) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패 - rollId: {}, eventType: {}", rollId, eventType, e);
+            return null;
+        }
+
+        Long eventId = paperEventSequence.next(rollId);
+        paperEventHub.broadcast(rollId, PaperEventFrame.of(eventId, eventType, json));
+        paperEventRelay.publish(rollId, eventId, eventType, json);
+        return eventId;
+    }
+}
@@ -0,0 +1,82 @@
+package com.sparklenote.paper.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparklenote.paper.cache.PaperListCache;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 여러 서버(노드) 사이에서 paper 이벤트를 전달하는 Redis pub/sub 중계기
+ * @memo : roll마다 채널(paper:roll:{rollId})을 사용하고, 모든 노드가 받은 이벤트를 자기 구독자에게 다시 전송
+ * @memo : 이벤트를 발행한 노드는 이미 로컬 구독자에게 보냈으므로 자기 메시지는 무시 (중복 전송 방지)
+ * @memo : 다른 노드에서 paper가 변경된 것이므로 이 노드의 paper 목록 캐시도 함께 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaperEventRelay implements MessageListener {
+
+    static final String CHANNEL_PREFIX = "paper:roll:";
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PaperEventHub paperEventHub;
+    private final ObjectMapper objectMapper;
+    private final PaperListCache paperListCache;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+    }
+
+    public void publish(Long rollId, Long eventId, String eventType, String data) {
+        try {
+            RelayMessage message = new RelayMessage(nodeId, eventId, eventType, data);
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + rollId, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // Redis 장애가 paper 작성 자체를 실패시키지 않도록 로그만 남김
+            log.error("paper 이벤트 Redis 발행 실패 - rollId: {}, eventType: {}", rollId, eventType, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            Long rollId = Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+
+            // 구독자가 없어도 목록 캐시는 갖고 있을 수 있으므로 먼저 비움
+            paperListCache.evict(rollId);
+
+            // 이 노드가 해당 roll을 구독/버퍼링하고 있지 않으면 역직렬화도 하지 않음
+            if (!paperEventHub.isTracking(rollId)) {
+                return;
+            }
+
+            RelayMessage relayMessage = objectMapper.readValue(message.getBody(), RelayMessage.class);
+            if (nodeId.equals(relayMessage.origin())) {
+                return;
+            }
+            paperEventHub.broadcast(rollId, PaperEventFrame.of(relayMessage.id(), relayMessage.eventType(), relayMessage.data()));
+        } catch (Exception e) {
+            log.error("paper 이벤트 Redis 수신 처리 실패", e);
+        }
+    }
+
+    record RelayMessage(String origin, Long id, String eventType, String data) {
+    }
+}
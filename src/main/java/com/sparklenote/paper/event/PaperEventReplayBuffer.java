@@ -0,0 +1,85 @@
+package com.sparklenote.paper.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * roll 단위로 최근 paper 이벤트를 보관하는 재전송 버퍼
+ * @memo : 재연결한 클라이언트가 Last-Event-ID 이후 놓친 이벤트만 다시 받을 수 있도록 사용
+ * @memo : roll마다 최대 sse.replay-buffer-size개만 보관하고, 한동안 이벤트가 없는 roll은 버퍼를 비움
+ */
+@Component
+public class PaperEventReplayBuffer {
+
+    private final int capacity;
+    private final Cache<Long, Ring> rings;
+
+    public PaperEventReplayBuffer(@Value("${sse.replay-buffer-size:100}") int capacity) {
+        this.capacity = capacity;
+        this.rings = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .maximumSize(10_000)
+                .build();
+    }
+
+    public Ring ring(Long rollId) {
+        return rings.get(rollId, id -> new Ring(capacity));
+    }
+
+    public Ring find(Long rollId) {
+        return rings.getIfPresent(rollId);
+    }
+
+    /**
+     * 한 roll의 이벤트 링 버퍼 (id 순으로 정렬)
+     * @memo : 여러 노드/스레드에서 id 순서가 뒤바뀌어 들어와도 정렬된 상태를 유지
+     */
+    public static class Ring {
+
+        private final int capacity;
+        private final TreeMap<Long, PaperEventFrame> frames = new TreeMap<>();
+
+        Ring(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public synchronized void append(PaperEventFrame frame) {
+            if (frame.getId() == null) {
+                return;
+            }
+            frames.put(frame.getId(), frame);
+            if (frames.size() > capacity) {
+                frames.pollFirstEntry();
+            }
+        }
+
+        public synchronized boolean isEmpty() {
+            return frames.isEmpty();
+        }
+
+        /**
+         * lastEventId 이후의 이벤트 목록
+         * @memo : 버퍼가 그 사이 구간을 모두 갖고 있지 않으면 empty 반환 (전체 재조회 필요)
+         * @memo : 앞쪽이 밀려난 경우뿐 아니라 중간 id가 빠진 경우(도착하지 않은 relay 메시지)도 포함 -> id가 1씩 연속인지 확인
+         */
+        public synchronized Optional<List<PaperEventFrame>> since(long lastEventId) {
+            if (frames.isEmpty() || frames.lastKey() <= lastEventId) {
+                return Optional.of(List.of());
+            }
+            SortedMap<Long, PaperEventFrame> missed = frames.tailMap(lastEventId, false);
+            if (missed.size() != frames.lastKey() - lastEventId) {
+                return Optional.empty();
+            }
+            return Optional.of(new ArrayList<>(missed.values()));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparklenote.paper.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * roll 단위로 단조 증가하는 paper 이벤트 id 발급기
+ * @memo : 여러 노드가 같은 roll에 이벤트를 발행해도 id가 겹치지 않도록 Redis INCR 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaperEventSequence {
+
+    private static final String KEY_PREFIX = "paper:seq:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 다음 이벤트 id 발급
+     * @memo : Redis 장애 시 null 반환 (id 없는 이벤트는 재전송 대상에서 제외됨)
+     */
+    public Long next(Long rollId) {
+        try {
+            return redisTemplate.opsForValue().increment(KEY_PREFIX + rollId);
+        } catch (Exception e) {
+            log.error("paper 이벤트 id 발급 실패 - rollId: {}", rollId, e);
+            return null;
+        }
+    }
+
+    // 마지막으로 발급된 이벤트 id (발급 이력이 없으면 0)
+    public long current(Long rollId) {
+        Object value = redisTemplate.opsForValue().get(KEY_PREFIX + rollId);
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    /**
+     * roll paper 목록의 스냅샷 버전 (paper 생성/수정/삭제마다 증가하는 마지막 이벤트 id)
+     * @memo : 클라이언트는 이 값이 바뀌었을 때만 목록을 다시 조회하면 됨
+     * @memo : Redis 장애 시 null 반환 (버전 비교 없이 목록을 조회하도록)
+     */
+    public Long version(Long rollId) {
+        try {
+            return current(rollId);
+        } catch (Exception e) {
+            log.error("roll 버전 조회 실패 - rollId: {}", rollId, e);
+            return null;
+        }
+    }
+}
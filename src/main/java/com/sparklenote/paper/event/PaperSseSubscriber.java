@@ -0,0 +1,66 @@
+package com.sparklenote.paper.event;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 구독자 한 명의 emitter와 전송 대기 큐
+ * @memo : 큐 크기가 제한되어 있어서 가득 차면 더 이상 이벤트를 받지 않음 (느린 클라이언트 판별 기준)
+ */
+public class PaperSseSubscriber {
+
+    @Getter
+    private final Long rollId;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<PaperEventFrame> queue;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private volatile long lastWriteAt = System.currentTimeMillis();
+
+    public PaperSseSubscriber(Long rollId, SseEmitter emitter, int queueCapacity) {
+        this.rollId = rollId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // 큐가 가득 찬 경우 false 반환 (블로킹 X)
+    public boolean offer(PaperEventFrame frame) {
+        return queue.offer(frame);
+    }
+
+    public PaperEventFrame poll() {
+        return queue.poll();
+    }
+
+    public boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    // 한 구독자에 대해 전송 작업은 항상 하나만 실행되도록 보장
+    public boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    public void finishDrain() {
+        draining.set(false);
+    }
+
+    public void send(PaperEventFrame frame) throws IOException {
+        emitter.send(frame.getItems());
+        lastWriteAt = System.currentTimeMillis();
+    }
+
+    // 보낼 이벤트가 쌓여 있는데 일정 시간 동안 한 번도 전송에 성공하지 못한 경우 (half-open 연결 등)
+    public boolean isStalled(long now, long stallTimeoutMillis) {
+        return hasPending() && now - lastWriteAt > stallTimeoutMillis;
+    }
+}
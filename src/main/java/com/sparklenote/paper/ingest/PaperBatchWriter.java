@@ -0,0 +1,91 @@
+package com.sparklenote.paper.ingest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * write-behind paper를 JDBC batch로 저장
+ * @memo : id가 미리 정해져 있으므로 generated key 없이 batch 가능 (MySQL은 rewriteBatchedStatements로 multi-row insert 한 문장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaperBatchWriter {
+
+    private static final String INSERT_SQL = "insert into Paper " +
+            "(paper_id, created_at, updated_at, content, created_by, roll_id, student_id, user_id) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final ParameterizedPreparedStatementSetter<PaperIngestRecord> SETTER = (statement, paper) -> {
+        Timestamp createdAt = new Timestamp(paper.createdAt());
+        statement.setLong(1, paper.paperId());
+        statement.setTimestamp(2, createdAt);
+        statement.setTimestamp(3, createdAt);
+        statement.setString(4, paper.content());
+        statement.setString(5, paper.createdBy().name());
+        statement.setLong(6, paper.rollId());
+        statement.setObject(7, paper.studentId(), Types.BIGINT);
+        statement.setObject(8, paper.userId(), Types.BIGINT);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * batch 저장, 실패하면 한 건씩 다시 저장해서 결과를 나눔
+     * @memo : batch는 한 트랜잭션으로 실행 -> 실패하면 일부만 저장된 상태 없이 전부 롤백된 뒤 한 건씩 저장
+     * @memo : 이전에 저장하고 ack하지 못한 항목(중복 키)은 이미 저장된 것으로 보고 건너뜀
+     * @memo : 제약 위반(roll 삭제, 내용 길이 초과 등)은 다시 시도해도 실패하므로 rejected, 그 외 오류(커넥션 등)는 deferred
+     */
+    public Result insert(List<PaperIngestRecord> papers) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, papers, papers.size(), SETTER));
+            return new Result(papers, List.of(), List.of());
+        } catch (DataAccessException e) {
+            log.warn("paper batch insert 실패 - 한 건씩 다시 저장 (size: {}): {}", papers.size(), e.getMessage());
+        }
+
+        List<PaperIngestRecord> inserted = new ArrayList<>();
+        List<Rejected> rejected = new ArrayList<>();
+        List<PaperIngestRecord> deferred = new ArrayList<>();
+        for (PaperIngestRecord paper : papers) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, statement -> SETTER.setValues(statement, paper));
+                inserted.add(paper);
+            } catch (DuplicateKeyException ignored) {
+                // 이미 저장된 paper
+            } catch (DataIntegrityViolationException e) {
+                rejected.add(new Rejected(paper, e.getMostSpecificCause().getMessage()));
+            } catch (DataAccessException e) {
+                log.warn("paper 저장 실패 - 다음 주기에 다시 시도 (paperId: {}): {}", paper.paperId(), e.getMessage());
+                deferred.add(paper);
+            }
+        }
+        return new Result(inserted, rejected, deferred);
+    }
+
+    /**
+     * @param inserted 이번에 저장된 paper
+     * @param rejected 다시 시도해도 저장할 수 없는 paper
+     * @param deferred 일시적인 오류로 저장하지 못한 paper
+     * @memo : 세 목록에 없는 paper는 이미 저장되어 있던 것
+     */
+    public record Result(List<PaperIngestRecord> inserted, List<Rejected> rejected, List<PaperIngestRecord> deferred) {
+    }
+
+    public record Rejected(PaperIngestRecord paper, String reason) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparklenote.paper.ingest;
+
+import com.sparklenote.domain.entity.Paper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * insert 전에 Paper id를 미리 받기 위한 할당기 (write-behind 응답용)
+ * @memo : Paper 엔티티의 id 생성기(IdBlock 테이블, pooled)를 그대로 사용하므로 JPA로 저장되는 paper와 id가 겹치지 않음
+ * @memo : 받아 둔 블록이 남아 있으면 DB 접근 없이 메모리에서 발급
+ */
+@Component
+public class PaperIdAllocator {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final IdentifierGenerator generator;
+
+    public PaperIdAllocator(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.generator = (IdentifierGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Paper.class)
+                .getGenerator();
+    }
+
+    public Long next() {
+        try (Session session = sessionFactory.openSession()) {
+            return (Long) generator.generate((SharedSessionContractImplementor) session, null);
+        }
+    }
+}
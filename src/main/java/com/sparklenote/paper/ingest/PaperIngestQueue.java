@@ -0,0 +1,231 @@
+package com.sparklenote.paper.ingest;
+
+import com.sparklenote.common.datasource.ReadYourWrites;
+import com.sparklenote.domain.entity.PaperChange;
+import com.sparklenote.paper.cache.PaperListCache;
+import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import com.sparklenote.paper.event.PaperEventPublisher;
+import com.sparklenote.paper.service.PaperChangeService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * paper 생성 write-behind 큐 (Redis Stream)
+ * @memo : "다 같이 써보자" 처럼 짧은 시간에 생성이 몰릴 때, 요청은 Stream에 넣고(durable) 바로 응답하고 DB에는 모아서 batch insert
+ * @memo : 노드마다 같은 consumer group의 consumer로 읽으므로 한 항목은 한 노드만 저장
+ * @memo : 저장(commit)이 끝난 뒤 ack 전에, 이번 batch에서 실제로 저장된 항목만 SSE 이벤트 전송, 변경 로그 기록, 목록 캐시 비우기
+ * @memo : ack 실패로 다시 전달된 항목은 이미 저장되어 있으므로 이벤트, 변경 로그가 중복되지 않음 (저장 직후 노드가 종료되면 그 항목의 이벤트는 빠지고 목록 조회로 반영)
+ * @memo : 저장할 수 없는 항목(roll 삭제 등 제약 위반, 읽을 수 없는 형식)은 이유와 함께 dead-letter Stream(paper:ingest:dead)으로 옮기고 ack
+ * @memo : paper.ingest.write-behind=false(기본)면 사용하지 않음
+ */
+@Slf4j
+@Component
+public class PaperIngestQueue {
+
+    static final String STREAM_KEY = "paper:ingest";
+    static final String GROUP = "paper-ingest";
+    static final String DEAD_LETTER_KEY = "paper:ingest:dead";
+
+    // 다른 노드가 받아 놓고 이 시간 동안 ack하지 못한 항목은 종료된 노드의 것으로 보고 가져옴
+    static final Duration CLAIM_MIN_IDLE = Duration.ofSeconds(30);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PaperBatchWriter paperBatchWriter;
+    private final PaperEventPublisher paperEventPublisher;
+    private final PaperChangeService paperChangeService;
+    private final PaperListCache paperListCache;
+    private final ReadYourWrites readYourWrites;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+
+    private final Consumer consumer = Consumer.from(GROUP, "node-" + UUID.randomUUID());
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("paper-ingest").daemon().factory());
+
+    public PaperIngestQueue(StringRedisTemplate stringRedisTemplate,
+                            PaperBatchWriter paperBatchWriter,
+                            PaperEventPublisher paperEventPublisher,
+                            PaperChangeService paperChangeService,
+                            PaperListCache paperListCache,
+                            ReadYourWrites readYourWrites,
+                            @Value("${paper.ingest.write-behind:false}") boolean enabled,
+                            @Value("${paper.ingest.batch-size:100}") int batchSize,
+                            @Value("${paper.ingest.flush-interval:200ms}") Duration flushInterval) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.paperBatchWriter = paperBatchWriter;
+        this.paperEventPublisher = paperEventPublisher;
+        this.paperChangeService = paperChangeService;
+        this.paperListCache = paperListCache;
+        this.readYourWrites = readYourWrites;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        createGroup();
+        flushScheduler.scheduleWithFixedDelay(this::flush, 0, flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdown();
+        try {
+            // 진행 중인 저장만 마무리 (읽지 않은 항목은 다른 노드가, 받고 ack 못한 항목은 CLAIM_MIN_IDLE 후 다른 노드가 저장)
+            flushScheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void enqueue(PaperIngestRecord paper) {
+        stringRedisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(paper.toMap()));
+    }
+
+    /**
+     * 종료된 노드가 ack하지 못한 항목, 이 노드가 ack하지 못한 항목 -> 새 항목 순서로 batch 저장
+     */
+    void flush() {
+        try {
+            claimStale();
+            while (flushBatch(ReadOffset.from("0")) == batchSize) {
+                // pending 항목을 모두 저장할 때까지
+            }
+            while (flushBatch(ReadOffset.lastConsumed()) == batchSize) {
+                // 쌓인 항목을 모두 저장할 때까지
+            }
+        } catch (Exception e) {
+            log.error("paper write-behind 저장 실패 - 다음 주기에 다시 시도", e);
+        }
+    }
+
+    /**
+     * @return ack한 항목 수 (일시적인 오류로 남겨 둔 항목이 있으면 batchSize보다 작아져서 반복을 멈춤)
+     */
+    private int flushBatch(ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                consumer,
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(STREAM_KEY, offset));
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, MapRecord<String, Object, Object>> recordsByPaperId = new LinkedHashMap<>();
+        List<PaperIngestRecord> papers = new ArrayList<>();
+        List<RecordId> malformed = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            // 읽을 수 없는 항목은 바로 dead-letter로 (pending에 남으면 매 주기 같은 위치에서 실패해서 뒤의 항목도 저장되지 않음)
+            try {
+                PaperIngestRecord paper = PaperIngestRecord.fromMap(record.getValue());
+                recordsByPaperId.put(paper.paperId(), record);
+                papers.add(paper);
+            } catch (RuntimeException e) {
+                deadLetter(record, "malformed entry: " + e);
+                malformed.add(record.getId());
+            }
+        }
+        PaperBatchWriter.Result result = papers.isEmpty()
+                ? new PaperBatchWriter.Result(List.of(), List.of(), List.of())
+                : paperBatchWriter.insert(papers);
+        publishInserted(result.inserted());
+
+        result.rejected().forEach(rejected ->
+                deadLetter(recordsByPaperId.get(rejected.paper().paperId()), rejected.reason()));
+
+        // 일시적인 오류로 저장하지 못한 항목은 ack하지 않고 pending으로 남겨 다음 주기에 다시 저장
+        Set<Long> deferred = result.deferred().stream().map(PaperIngestRecord::paperId).collect(Collectors.toSet());
+        RecordId[] ids = Stream.concat(malformed.stream(), recordsByPaperId.entrySet().stream()
+                        .filter(entry -> !deferred.contains(entry.getKey()))
+                        .map(entry -> entry.getValue().getId()))
+                .toArray(RecordId[]::new);
+        if (ids.length > 0) {
+            stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+            stringRedisTemplate.opsForStream().delete(STREAM_KEY, ids);
+        }
+        return ids.length;
+    }
+
+    private void publishInserted(List<PaperIngestRecord> inserted) {
+        inserted.stream().map(PaperIngestRecord::rollId).distinct().forEach(rollId -> {
+            readYourWrites.rollWritten(rollId);
+            paperListCache.evict(rollId);
+        });
+        inserted.forEach(this::publishCreated);
+    }
+
+    // 원래 항목에 실패 이유와 원래 id를 붙여서 보관 (확인 후 XADD paper:ingest로 다시 넣을 수 있음)
+    private void deadLetter(MapRecord<String, Object, Object> record, String reason) {
+        Map<Object, Object> entry = new HashMap<>(record.getValue());
+        entry.put("error", reason == null ? "" : reason);
+        entry.put("sourceId", record.getId().getValue());
+        stringRedisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(DEAD_LETTER_KEY)
+                .ofMap(entry));
+        log.error("paper write-behind 저장 불가 - dead-letter로 이동 (id: {}, rollId: {}): {}",
+                record.getId(), record.getValue().get("rollId"), reason);
+    }
+
+    private void publishCreated(PaperIngestRecord paper) {
+        Long eventId = paperEventPublisher.publish(paper.rollId(), "create", new PaperResponseDTO(
+                paper.studentId(), paper.paperId(), paper.content(), paper.authorName(), paper.authorRole()));
+        paperChangeService.record(paper.rollId(), eventId, paper.paperId(), PaperChange.Type.CREATED);
+    }
+
+    private void claimStale() {
+        PendingMessages pending = stringRedisTemplate.opsForStream()
+                .pending(STREAM_KEY, GROUP, Range.unbounded(), batchSize);
+        RecordId[] stale = pending.stream()
+                .filter(message -> !message.getConsumerName().equals(consumer.getName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_MIN_IDLE) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (stale.length > 0) {
+            stringRedisTemplate.opsForStream().claim(STREAM_KEY, GROUP, consumer.getName(), CLAIM_MIN_IDLE, stale);
+        }
+    }
+
+    private void createGroup() {
+        try {
+            // MKSTREAM : 아직 항목이 없어 Stream이 없어도 group 생성
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (Exception e) {
+            // 이미 있는 group (BUSYGROUP)
+            log.debug("paper write-behind consumer group 생성 생략 - {}", e.getMessage());
+        }
+    }
+}
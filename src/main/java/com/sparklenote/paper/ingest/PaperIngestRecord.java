@@ -0,0 +1,66 @@
+package com.sparklenote.paper.ingest;
+
+import com.sparklenote.domain.entity.Paper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * write-behind로 저장 대기 중인 paper (Redis Stream 항목)
+ * @memo : id는 enqueue 전에 PaperIdAllocator로 미리 받아서 응답에 바로 사용
+ * @memo : 같은 항목이 다시 전달돼도 id가 같으므로 중복 insert되지 않음
+ */
+public record PaperIngestRecord(Long paperId,
+                                Long rollId,
+                                String content,
+                                Paper.CreatedBy createdBy,
+                                Long studentId,
+                                Long userId,
+                                String authorName,
+                                long createdAt) {
+
+    public static PaperIngestRecord of(Long paperId, Paper paper, String authorName) {
+        return new PaperIngestRecord(
+                paperId,
+                paper.getRoll().getId(),
+                paper.getContent(),
+                paper.getCreatedBy(),
+                paper.getStudent() == null ? null : paper.getStudent().getId(),
+                paper.getUser() == null ? null : paper.getUser().getId(),
+                authorName,
+                System.currentTimeMillis());
+    }
+
+    public String authorRole() {
+        return createdBy == Paper.CreatedBy.STUDENT ? "STUDENT" : "TEACHER";
+    }
+
+    Map<String, String> toMap() {
+        Map<String, String> map = new HashMap<>();
+        map.put("paperId", paperId.toString());
+        map.put("rollId", rollId.toString());
+        map.put("content", content == null ? "" : content);
+        map.put("createdBy", createdBy.name());
+        if (studentId != null) {
+            map.put("studentId", studentId.toString());
+        }
+        if (userId != null) {
+            map.put("userId", userId.toString());
+        }
+        map.put("authorName", authorName == null ? "" : authorName);
+        map.put("createdAt", Long.toString(createdAt));
+        return map;
+    }
+
+    static PaperIngestRecord fromMap(Map<?, ?> map) {
+        return new PaperIngestRecord(
+                Long.valueOf(map.get("paperId").toString()),
+                Long.valueOf(map.get("rollId").toString()),
+                map.get("content").toString(),
+                Paper.CreatedBy.valueOf(map.get("createdBy").toString()),
+                map.containsKey("studentId") ? Long.valueOf(map.get("studentId").toString()) : null,
+                map.containsKey("userId") ? Long.valueOf(map.get("userId").toString()) : null,
+                map.get("authorName").toString(),
+                Long.parseLong(map.get("createdAt").toString()));
+    }
+}
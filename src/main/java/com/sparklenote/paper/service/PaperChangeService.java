@@ -0,0 +1,159 @@
+package com.sparklenote.paper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparklenote.common.datasource.ReadYourWrites;
+import com.sparklenote.domain.entity.PaperChange;
+import com.sparklenote.domain.repository.PaperChangeRepository;
+import com.sparklenote.domain.repository.PaperRepository;
+import com.sparklenote.paper.dto.response.PaperChangesDTO;
+import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import com.sparklenote.paper.event.PaperEventSequence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * paper 변경 로그 기록 및 델타 조회
+ * @memo : 재연결한 클라이언트가 전체 목록 대신 since 이후 바뀐 paper만 받아서 반영하도록 사용
+ * @memo : 최근 MAX_CHANGES개 버전까지만 델타로 응답하고 (그보다 뒤처진 클라이언트는 reset -> 전체 재조회), 그 앞의 로그는 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaperChangeService {
+
+    public static final int MAX_CHANGES = 500;
+
+    // 버전 사이가 비어 있으면 앞 버전이 아직 저장 중일 수 있으므로 멈춤, 뒤 변경이 이 시간보다 오래됐으면 기록 실패로 보고 건너뜀
+    static final Duration GAP_SETTLE_TIME = Duration.ofSeconds(5);
+
+    private final PaperChangeRepository paperChangeRepository;
+    private final PaperRepository paperRepository;
+    private final PaperEventSequence paperEventSequence;
+    private final ReadYourWrites readYourWrites;
+
+    // roll별로 마지막으로 정리한 버전 구간 (version / MAX_CHANGES)
+    private final Cache<Long, Long> prunedWindows = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    /**
+     * 변경 로그 기록
+     * @param version paper 이벤트 id (Redis 장애로 발급되지 않았으면 null -> 기록하지 않음)
+     * @memo : paper는 이미 저장된 상태이므로 기록 실패는 로그만 남김
+     * @memo : version이 새 MAX_CHANGES 구간(version / MAX_CHANGES)에 들어서면 더 이상 응답하지 않는 버전(version - MAX_CHANGES 이하)을 삭제 -> roll당 로그는 최대 약 2 * MAX_CHANGES개
+     * @memo : 구간은 노드별로 기억하므로 재시작 후 첫 기록, 다른 노드의 기록에서도 한 번씩 정리될 수 있음 (같은 범위 DELETE라 결과는 같음)
+     */
+    public void record(Long rollId, Long version, Long paperId, PaperChange.Type type) {
+        if (version == null) {
+            log.warn("paper 이벤트 id가 없어 변경 로그를 남기지 못함 - rollId: {}, paperId: {}", rollId, paperId);
+            return;
+        }
+        try {
+            paperChangeRepository.save(PaperChange.of(rollId, version, paperId, type));
+        } catch (Exception e) {
+            log.error("paper 변경 로그 저장 실패 - rollId: {}, version: {}, paperId: {}", rollId, version, paperId, e);
+        }
+        if (crossedWindow(rollId, version)) {
+            prune(rollId, version - MAX_CHANGES);
+        }
+    }
+
+    // 버전이 새 MAX_CHANGES 구간에 들어섰는지 (roll-delete 이벤트, 기록 실패로 배수 버전이 빠져도 다음 기록에서 정리)
+    private boolean crossedWindow(Long rollId, long version) {
+        long window = version / MAX_CHANGES;
+        boolean[] crossed = new boolean[1];
+        prunedWindows.asMap().compute(rollId, (id, previous) -> {
+            long last = previous == null ? 0 : previous;
+            crossed[0] = window > last;
+            return Math.max(last, window);
+        });
+        return crossed[0];
+    }
+
+    private void prune(Long rollId, long upTo) {
+        try {
+            int pruned = paperChangeRepository.bulkDeleteByRollIdUpTo(rollId, upTo);
+            log.debug("paper 변경 로그 정리 - rollId: {}, version <= {}: {}건", rollId, upTo, pruned);
+        } catch (Exception e) {
+            log.error("paper 변경 로그 정리 실패 - rollId: {}, version <= {}", rollId, upTo, e);
+        }
+    }
+
+    /**
+     * since 이후의 변경 조회
+     * @param since 클라이언트가 마지막으로 반영한 roll 버전 (ETag, 입장 응답의 rollVersion, 이전 응답의 version)
+     * @memo : paper별로 마지막 변경만 남겨서 생성/수정은 현재 내용, 삭제는 id만 응답
+     * @memo : since가 현재 버전보다 크면(Redis 초기화 등), MAX_CHANGES보다 뒤처졌으면(정리된 로그) 또는 버전을 모르면 reset 응답
+     * @memo : 변경 로그, 바뀐 paper 조회를 같은 readOnly 트랜잭션(커넥션 하나)으로 처리
+     */
+    @Transactional(readOnly = true)
+    public PaperChangesDTO getChanges(Long rollId, long since) {
+        Long current = paperEventSequence.version(rollId);
+        if (current == null || since < 0 || since > current || current - since > MAX_CHANGES) {
+            return PaperChangesDTO.builder()
+                    .version(current)
+                    .upserted(List.of())
+                    .deleted(List.of())
+                    .reset(true)
+                    .build();
+        }
+
+        // 방금 변경된 roll이면 replica에 아직 없는 변경이 있을 수 있으므로 primary에서 조회
+        return readYourWrites.readRoll(rollId, () -> readChanges(rollId, since));
+    }
+
+    private PaperChangesDTO readChanges(Long rollId, long since) {
+        List<PaperChange> changes = paperChangeRepository.findByRollIdAndVersionGreaterThanOrderByVersion(
+                rollId, since, PageRequest.of(0, MAX_CHANGES));
+
+        // 비어 있는 버전 앞까지만 반영 (paper id -> 마지막 변경 종류)
+        LocalDateTime settled = LocalDateTime.now().minus(GAP_SETTLE_TIME);
+        Map<Long, PaperChange.Type> latest = new LinkedHashMap<>();
+        long version = since;
+        boolean stoppedAtGap = false;
+        for (PaperChange change : changes) {
+            if (change.getVersion() != version + 1 && change.getCreatedAt().isAfter(settled)) {
+                stoppedAtGap = true;
+                break;
+            }
+            version = change.getVersion();
+            latest.put(change.getPaperId(), change.getType());
+        }
+
+        Set<Long> upsertIds = latest.entrySet().stream()
+                .filter(entry -> entry.getValue() != PaperChange.Type.DELETED)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        List<PaperResponseDTO> upserted = upsertIds.isEmpty() ? List.of() : paperRepository.findResponsesByIds(upsertIds);
+
+        // 조회되지 않은 paper는 그 사이 삭제된 것 (삭제 로그는 다음 조회에서 다시 내려가도 결과는 같음)
+        List<Long> deleted = new ArrayList<>();
+        Set<Long> found = upserted.stream().map(PaperResponseDTO::getPaperId).collect(Collectors.toSet());
+        latest.forEach((paperId, type) -> {
+            if (type == PaperChange.Type.DELETED || !found.contains(paperId)) {
+                deleted.add(paperId);
+            }
+        });
+
+        return PaperChangesDTO.builder()
+                .version(version)
+                .upserted(upserted)
+                .deleted(deleted)
+                .hasMore(!stoppedAtGap && changes.size() == MAX_CHANGES)
+                .build();
+    }
+}
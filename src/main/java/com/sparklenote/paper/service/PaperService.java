@@ -1,31 +1,39 @@
 package com.sparklenote.paper.service;
 
+import com.sparklenote.common.datasource.ReadYourWrites;
 import com.sparklenote.common.exception.PaperException;
 import com.sparklenote.common.exception.RollException;
 import com.sparklenote.common.exception.UserException;
 import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.domain.entity.PaperChange;
 import com.sparklenote.domain.entity.Roll;
 import com.sparklenote.domain.entity.Student;
 import com.sparklenote.domain.entity.User;
 import com.sparklenote.domain.repository.PaperRepository;
 import com.sparklenote.domain.repository.RollRepository;
 import com.sparklenote.domain.repository.StudentRepository;
-import com.sparklenote.domain.repository.UserRepository;
+import com.sparklenote.paper.cache.PaperListCache;
+import com.sparklenote.paper.dto.request.PaperCursor;
 import com.sparklenote.paper.dto.request.PaperRequestDTO;
+import com.sparklenote.paper.dto.response.PaperPageDTO;
 import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import com.sparklenote.paper.event.PaperEventPublisher;
+import com.sparklenote.paper.ingest.PaperIdAllocator;
+import com.sparklenote.paper.ingest.PaperIngestQueue;
+import com.sparklenote.paper.ingest.PaperIngestRecord;
 import com.sparklenote.user.oAuth2.CustomOAuth2User;
+import com.sparklenote.user.service.UserReferenceResolver;
 import com.sparklenote.student.userDetails.CustomStudentDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 
 import static com.sparklenote.common.error.code.PaperErrorCode.PAPER_DELETE_FORBIDDEN;
@@ -42,27 +50,46 @@ public class PaperService {
     private final PaperRepository paperRepository;
     private final StudentRepository studentRepository;
     private final RollRepository rollRepository;
-    private final UserRepository userRepository;
-
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final UserReferenceResolver userReferenceResolver;
+
+    private final PaperEventPublisher paperEventPublisher;
+    private final PaperListCache paperListCache;
+    private final PaperChangeService paperChangeService;
+    private final PaperIngestQueue paperIngestQueue;
+    private final PaperIdAllocator paperIdAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadYourWrites readYourWrites;
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 커밋 후 처리 : 목록 캐시 비우기, SSE 이벤트 전송, 변경 로그 기록
+     * @memo : 커밋 전에 이벤트 id(roll 버전)가 올라가면 다른 요청이 이전 목록을 새 버전으로 캐시할 수 있으므로 트랜잭션 밖에서 처리
+     * @memo : 이벤트를 받은 클라이언트가 바로 다시 조회하므로, 이벤트 전에 roll을 primary 조회 대상으로 기록
+     * @memo : 변경 로그는 이벤트 id를 version으로 쓰므로 커밋 후 별도 트랜잭션으로 저장 -> paper 변경 요청은 커넥션을 두 번 꺼냄 (동시에 잡지는 않음)
+     */
+    private void afterWrite(String eventType, PaperWrite write, PaperChange.Type changeType) {
+        Long eventId = publishAfterCommit(write.rollId(), eventType, write.paper());
+
+        // 이벤트 id를 버전으로 변경 로그 기록 (GET /paper/rolls/{rollId}/changes)
+        paperChangeService.record(write.rollId(), eventId, write.paper().getPaperId(), changeType);
+    }
 
-    private void sendPaperEvent(String eventType, Paper paper) {
-        List<SseEmitter> deadEmitters = new ArrayList<>();
-        emitters.forEach(emitter -> {
-            try {
-                String authorName = getAuthorName(paper);
-                String authorRole = getAuthorRole(paper);
+    /**
+     * roll 삭제 커밋 후 처리 : paper 변경과 같은 순서로 목록 캐시를 비우고 roll-delete 이벤트 전송
+     * @memo : 이벤트 id가 roll 버전이므로 이전 ETag로는 304를 받지 못하고, 다른 노드의 캐시도 relay 수신 시 비워짐
+     */
+    public void afterRollDeleted(Long rollId) {
+        publishAfterCommit(rollId, "roll-delete", Map.of("rollId", rollId));
+    }
 
-                Long studentId = getStudentId(paper);
+    private Long publishAfterCommit(Long rollId, String eventType, Object data) {
+        readYourWrites.rollWritten(rollId);
+        paperListCache.evict(rollId);
 
-                emitter.send(SseEmitter.event()
-                        .name(eventType)
-                        .data(new PaperResponseDTO(studentId, paper.getId(), paper.getContent(), authorName, authorRole)));
-            } catch (Exception e) {
-                deadEmitters.add(emitter);
-            }
-        });
-        emitters.removeAll(deadEmitters);
+        // 해당 roll의 구독자에게만 이벤트 전송 (다른 노드 포함)
+        return paperEventPublisher.publish(rollId, eventType, data);
     }
 
     private String getAuthorName(Paper paper) {
@@ -81,133 +108,171 @@ public class PaperService {
         }
     }
 
+    /**
+     * paper 생성
+     * @memo : 작성자, roll 조회와 저장을 한 트랜잭션(커넥션 하나)으로 처리하고, 이벤트 전송은 커밋 후에 처리
+     */
     public PaperResponseDTO createPaper(Long rollId, PaperRequestDTO paperRequestDTO) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        Paper savedPaper;
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        if (paperIngestQueue.isEnabled()) {
+            AuthoredPaper authored = newPaper(rollId, paperRequestDTO, principal);
+            PaperResponseDTO queued = enqueuePaper(authored.paper(), authored.authorName());
+            if (queued != null) {
+                return queued;
+            }
+        }
+
+        PaperWrite created = transactionTemplate.execute(status -> {
+            AuthoredPaper authored = newPaper(rollId, paperRequestDTO, principal);
+            Paper savedPaper = paperRepository.save(authored.paper());
+            return new PaperWrite(savedPaper.getRoll().getId(), toResponse(savedPaper, authored.authorName()));
+        });
+        afterWrite("create", created, PaperChange.Type.CREATED);
+        return created.paper();
+    }
 
-        if (authentication.getPrincipal() instanceof CustomOAuth2User oAuth2User) {
-            // 선생님(User)인 경우
-            User user = userRepository.findByUsername(oAuth2User.getUsername())
-                    .orElseThrow(() -> new UserException(USER_NOT_FOUND));
+    private AuthoredPaper newPaper(Long rollId, PaperRequestDTO paperRequestDTO, Object principal) {
+        if (principal instanceof CustomOAuth2User oAuth2User) {
+            // 선생님(User)인 경우 - 토큰의 user id로 참조만 사용 (SELECT 없음)
+            User user = userReferenceResolver.getReference(oAuth2User);
 
             Roll roll = rollRepository.findById(rollId)
                     .orElseThrow(() -> new RollException(ROLL_NOT_FOUND));
 
-            savedPaper = Paper.createTeacherPaper(paperRequestDTO, user, roll);
-        } else {
-            // 학생인 경우
-            CustomStudentDetails studentDetails = (CustomStudentDetails) authentication.getPrincipal();
-            Student student = studentRepository.findById(studentDetails.getStudentId())
-                    .orElseThrow(() -> new UserException(USER_NOT_FOUND));
-
-            savedPaper = Paper.createStudentPaper(paperRequestDTO, student, student.getRoll());
+            // user 프록시를 초기화하지 않도록 이름은 토큰 값을 사용
+            return new AuthoredPaper(Paper.createTeacherPaper(paperRequestDTO, user, roll), oAuth2User.getName());
         }
 
-        savedPaper = paperRepository.save(savedPaper);
-        sendPaperEvent("create", savedPaper);
-
-        String authorName = getAuthorName(savedPaper);
-        String authorRole = getAuthorRole(savedPaper);
+        // 학생인 경우
+        CustomStudentDetails studentDetails = (CustomStudentDetails) principal;
+        Student student = studentRepository.findById(studentDetails.getStudentId())
+                .orElseThrow(() -> new UserException(USER_NOT_FOUND));
 
+        return new AuthoredPaper(Paper.createStudentPaper(paperRequestDTO, student, student.getRoll()), student.getName());
+    }
 
-        Long studentId = getStudentId(savedPaper);
-        return new PaperResponseDTO(
-                studentId,
-                savedPaper.getId(),
-                savedPaper.getContent(),
-                authorName,
-                authorRole
-        );
+    /**
+     * write-behind 모드 : id를 미리 받아 Stream에 넣고 바로 응답 (DB 저장, SSE 이벤트는 PaperIngestQueue가 batch로 처리)
+     * @memo : Redis에 넣지 못하면 null 반환 -> 바로 저장
+     */
+    private PaperResponseDTO enqueuePaper(Paper paper, String authorName) {
+        Long paperId = paperIdAllocator.next();
+        try {
+            paperIngestQueue.enqueue(PaperIngestRecord.of(paperId, paper, authorName));
+        } catch (Exception e) {
+            log.error("paper write-behind 큐 저장 실패 - 바로 저장 (rollId: {})", paper.getRoll().getId(), e);
+            return null;
+        }
+        return new PaperResponseDTO(getStudentId(paper), paperId, paper.getContent(), authorName, getAuthorRole(paper));
     }
 
     public void deletePaper(Long id) {
-        Paper paper = paperRepository.findById(id)
-                .orElseThrow(() -> new PaperException(PAPER_NOT_FOUND));
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        PaperWrite deleted = transactionTemplate.execute(status -> {
+            Paper paper = paperRepository.findWithAuthorById(id)
+                    .orElseThrow(() -> new PaperException(PAPER_NOT_FOUND));
 
-        if (authentication.getPrincipal() instanceof CustomOAuth2User oAuth2User) {
-            User user = userRepository.findByUsername(oAuth2User.getUsername())
-                    .orElseThrow(() -> new UserException(USER_NOT_FOUND));
-            // 선생님은 모든 paper 삭제 가능
-        } else {
-            CustomStudentDetails studentDetails = (CustomStudentDetails) authentication.getPrincipal();
-            if (paper.getCreatedBy() != Paper.CreatedBy.STUDENT ||
-                    !paper.getStudent().getId().equals(studentDetails.getStudentId())) {
-                throw new RuntimeException("삭제 권한이 없습니다.");
+            if (principal instanceof CustomOAuth2User oAuth2User) {
+                userReferenceResolver.getUserId(oAuth2User); // 존재하지 않는 선생님이면 USER_NOT_FOUND (uid가 있는 토큰은 조회 없음)
+                // 선생님은 모든 paper 삭제 가능
+            } else {
+                CustomStudentDetails studentDetails = (CustomStudentDetails) principal;
+                if (paper.getCreatedBy() != Paper.CreatedBy.STUDENT ||
+                        !paper.getStudent().getId().equals(studentDetails.getStudentId())) {
+                    throw new PaperException(PAPER_DELETE_FORBIDDEN);
+                }
             }
-        }
-        sendPaperEvent("delete", paper);
-        paperRepository.delete(paper);
+            paperRepository.delete(paper);
+            return new PaperWrite(paper.getRoll().getId(), toResponse(paper, getAuthorName(paper)));
+        });
+        afterWrite("delete", deleted, PaperChange.Type.DELETED);
     }
 
-
+    /**
+     * paper 수정
+     * @memo : 조회한 엔티티의 내용만 바꾸고 커밋 시 변경 감지로 UPDATE (save 호출 없음)
+     */
     public PaperResponseDTO updatePaper(Long id, PaperRequestDTO paperRequestDTO) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        Paper paper;
-        if (authentication.getPrincipal() instanceof CustomOAuth2User oAuth2User) {
-
-            User user = userRepository.findByUsername(oAuth2User.getUsername())
-                    .orElseThrow(() -> new UserException(USER_NOT_FOUND));
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-            paper = paperRepository.findById(id)
-                    .orElseThrow(() -> new PaperException(PAPER_NOT_FOUND));
+        PaperWrite updated = transactionTemplate.execute(status -> {
+            Paper paper;
+            if (principal instanceof CustomOAuth2User oAuth2User) {
 
-        } else if (authentication.getPrincipal() instanceof CustomStudentDetails studentDetails) {
-            paper = paperRepository.findById(id)
-                    .orElseThrow(() -> new PaperException(PAPER_NOT_FOUND));
+                userReferenceResolver.getUserId(oAuth2User); // 존재하지 않는 선생님이면 USER_NOT_FOUND (uid가 있는 토큰은 조회 없음)
 
-            if (paper.getCreatedBy() != Paper.CreatedBy.STUDENT ||
-                    !paper.getStudent().getId().equals(studentDetails.getStudentId())) {
+                paper = paperRepository.findWithAuthorById(id)
+                        .orElseThrow(() -> new PaperException(PAPER_NOT_FOUND));
 
-                throw new PaperException(PAPER_DELETE_FORBIDDEN);
-            }
-        } else {
-            throw new PaperException(PAPER_DELETE_FORBIDDEN); // 인증되지 않은 사용자
-        }
+            } else if (principal instanceof CustomStudentDetails studentDetails) {
+                paper = paperRepository.findWithAuthorById(id)
+                        .orElseThrow(() -> new PaperException(PAPER_NOT_FOUND));
 
-        // 3. 페이퍼 내용 수정
-        paper.updateContent(paperRequestDTO);
+                if (paper.getCreatedBy() != Paper.CreatedBy.STUDENT ||
+                        !paper.getStudent().getId().equals(studentDetails.getStudentId())) {
 
-        // 4. 저장 및 이벤트 전송
-        Paper updatedPaper = paperRepository.save(paper);
-        sendPaperEvent("update", updatedPaper);
+                    throw new PaperException(PAPER_DELETE_FORBIDDEN);
+                }
+            } else {
+                throw new PaperException(PAPER_DELETE_FORBIDDEN); // 인증되지 않은 사용자
+            }
 
-        // 5. 응답 생성
-        String authorName = getAuthorName(updatedPaper);
-        String authorRole = getAuthorRole(updatedPaper);
+            // 페이퍼 내용 수정
+            paper.updateContent(paperRequestDTO);
+            return new PaperWrite(paper.getRoll().getId(), toResponse(paper, getAuthorName(paper)));
+        });
 
-        Long studentId = getStudentId(updatedPaper);
+        // 이벤트 전송 및 응답
+        afterWrite("update", updated, PaperChange.Type.UPDATED);
+        return updated.paper();
+    }
 
+    private PaperResponseDTO toResponse(Paper paper, String authorName) {
         return new PaperResponseDTO(
-                studentId,
-                updatedPaper.getId(),
-                updatedPaper.getContent(),
+                getStudentId(paper),
+                paper.getId(),
+                paper.getContent(),
                 authorName,
-                authorRole
+                getAuthorRole(paper)
         );
     }
 
 
-    public List<PaperResponseDTO> getPapers(Long rollId) {
-        List<Paper> papers = paperRepository.findByRoll_Id(rollId);
+    /**
+     * roll의 paper 목록을 커서 기반으로 조회
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @memo : 생성 시각(created_at) 순서, 같은 시각이면 paper id 순서 (id는 노드별 블록 할당이라 생성 순서를 따르지 않음)
+     * @memo : 커서가 지나간 시각으로 늦게 보이는 paper(동시 커밋, write-behind 지연, 노드 간 시계 차이)는 SSE 이벤트와 변경 조회로 받음
+     * @memo : 조회 결과는 PaperListCache에 보관되고, paper가 변경되면 비워짐
+     * @memo : 캐시 hit에는 커넥션을 쓰지 않도록 트랜잭션을 열지 않음 (DB 조회는 쿼리 하나라 Spring Data의 readOnly 트랜잭션으로 처리)
+     */
+    public PaperPageDTO getPapers(Long rollId, String cursor, int size) {
+        return getPapers(rollId, null, cursor, size);
+    }
 
-        return papers.stream()
-                .map(paper -> {
-                    String authorName = getAuthorName(paper);
-                    String authorRole = getAuthorRole(paper);
+    /**
+     * roll 버전(PaperEventSequence)을 이미 읽은 경우의 목록 조회
+     * @memo : 캐시가 version보다 오래된 목록이면 다시 조회 (다른 노드의 변경 이벤트가 아직 도착하지 않은 경우)
+     */
+    public PaperPageDTO getPapers(Long rollId, Long version, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PaperCursor after = PaperCursor.parse(cursor);
+        return paperListCache.get(rollId, version, after, pageSize, () -> loadPapers(rollId, after, pageSize));
+    }
 
-                    Long studentId = getStudentId(paper);
+    private PaperPageDTO loadPapers(Long rollId, PaperCursor after, int pageSize) {
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회 (방금 변경된 roll이면 primary에서)
+        List<PaperResponseDTO> papers = readYourWrites.readRoll(rollId, () -> paperRepository.findResponsesByRollId(
+                rollId, after, PageRequest.of(0, pageSize + 1)));
 
-                    return new PaperResponseDTO(
-                            studentId,
-                            paper.getId(),
-                            paper.getContent(),
-                            authorName,
-                            authorRole
-                    );
-                })
-                .collect(Collectors.toList());
+        if (papers.size() <= pageSize) {
+            return new PaperPageDTO(papers, null);
+        }
+        List<PaperResponseDTO> page = new ArrayList<>(papers.subList(0, pageSize));
+        PaperResponseDTO last = page.get(pageSize - 1);
+        return new PaperPageDTO(page, new PaperCursor(last.getCreatedAt(), last.getPaperId()).toString());
     }
 
     private Long getStudentId(Paper paper) {
@@ -216,4 +281,11 @@ public class PaperService {
         }
         return null;
     }
+
+    private record AuthoredPaper(Paper paper, String authorName) {
+    }
+
+    // 커밋된 변경 (커밋 후 처리에 필요한 값만 트랜잭션 안에서 꺼내 둠)
+    private record PaperWrite(Long rollId, PaperResponseDTO paper) {
+    }
 }
\ No newline at end of file
@@ -78,8 +78,9 @@ public class RollController {
     @Operation(summary = "학생이 Roll에 입장", description = "주어진 URL과 학급 코드를 사용하여 Roll에 입장합니다.")
     public ResponseEntity<SnResponse<RollJoinResponseDto>> joinRoll(
             @PathVariable(name = "url") String url,
+            @RequestParam(name = "papers", defaultValue = "true") boolean includePapers, // false면 paper 목록 없이 입장
             @Valid @RequestBody RollJoinRequestDto joinRequestDto) {
-        RollJoinResponseDto responseDto = rollService.joinRoll(url, joinRequestDto);
+        RollJoinResponseDto responseDto = rollService.joinRoll(url, joinRequestDto, includePapers);
         return ResponseEntity.ok(new SnResponse<>(SUCCESS, responseDto));
     }
 }
\ No newline at end of file
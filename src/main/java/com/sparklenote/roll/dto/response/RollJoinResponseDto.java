@@ -1,5 +1,6 @@
 package com.sparklenote.roll.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sparklenote.paper.dto.response.PaperResponseDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +19,10 @@ public class RollJoinResponseDto {
     private Long rollId;
     private String rollName;
     private String studentName;
-    private List<PaperResponseDTO> papers;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<PaperResponseDTO> papers; // 첫 페이지만 포함 (papers=false로 입장하면 생략)
+    private String nextCursor; // 다음 페이지는 GET /paper/rolls/{rollId}?cursor= 로 조회
+    private Long rollVersion; // 입장 시점의 paper 목록 버전 (바뀌었을 때만 목록 재조회)
     private String accessToken;
     private String refreshToken;
     private String role;
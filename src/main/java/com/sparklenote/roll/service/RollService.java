@@ -1,15 +1,18 @@
 package com.sparklenote.roll.service;
 
+import com.sparklenote.common.datasource.ReadYourWrites;
 import com.sparklenote.common.exception.RollException;
-import com.sparklenote.common.exception.UserException;
 import com.sparklenote.domain.entity.Roll;
 import com.sparklenote.domain.entity.Student;
 import com.sparklenote.domain.entity.User;
 import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.domain.repository.PaperChangeRepository;
+import com.sparklenote.domain.repository.PaperRepository;
 import com.sparklenote.domain.repository.RollRepository;
+import com.sparklenote.domain.repository.StickerRepository;
 import com.sparklenote.domain.repository.StudentRepository;
-import com.sparklenote.domain.repository.UserRepository;
-import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import com.sparklenote.paper.dto.response.PaperPageDTO;
+import com.sparklenote.paper.event.PaperEventSequence;
 import com.sparklenote.paper.service.PaperService;
 import com.sparklenote.roll.dto.request.RollCreateRequestDto;
 import com.sparklenote.roll.dto.request.RollJoinRequestDto;
@@ -18,20 +21,28 @@ import com.sparklenote.roll.dto.response.RollJoinResponseDto;
 import com.sparklenote.roll.dto.response.RollResponseDTO;
 import com.sparklenote.roll.util.ClassCodeGenerator;
 import com.sparklenote.roll.util.UrlGenerator;
+import com.sparklenote.student.service.StudentService;
+import com.sparklenote.student.service.StudentService.JoinedStudent;
 import com.sparklenote.user.jwt.JWTUtil;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore;
 import com.sparklenote.user.oAuth2.CustomOAuth2User;
+import com.sparklenote.user.service.UserReferenceResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.sparklenote.common.error.code.RollErrorCode.*;
-import static com.sparklenote.common.error.code.UserErrorCode.USER_NOT_FOUND;
 
 
 @Slf4j
@@ -41,62 +52,89 @@ public class RollService {
     @Value("${jwt.accessExpiration}")
     private Long accessTokenExpiration;
 
-    @Value("${jwt.refreshExpiration}")
-    private Long refreshTokenExpiration;
-
     private final RollRepository rollRepository;
-    private final UserRepository userRepository;
-    private final UrlGenerator urlGenerator;
     private final StudentRepository studentRepository;
+    private final PaperRepository paperRepository;
+    private final StickerRepository stickerRepository;
+    private final PaperChangeRepository paperChangeRepository;
+    private final UserReferenceResolver userReferenceResolver;
+    private final UrlGenerator urlGenerator;
+    private final StudentService studentService;
     private final PaperService paperService;
+    private final PaperEventSequence paperEventSequence;
     private final JWTUtil jwtUtil;
+    private final RefreshTokenFamilyStore refreshTokenFamilyStore;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ReadYourWrites readYourWrites;
 
+    @Transactional
     public RollResponseDTO createRoll(RollCreateRequestDto createRequestDto) {
         int classCode = ClassCodeGenerator.generateClassCode(); // 학급 코드 생성
         String url = urlGenerator.generateUrl(); // URL 생성
 
-        // SecurityContextHolder에서 로그인된 사용자의 username 가져오기
-        String username = getCustomOAuth2User();
-
-        // username으로 User 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserException(USER_NOT_FOUND));
+        // SecurityContextHolder에서 로그인된 사용자 가져오기
+        CustomOAuth2User principal = getCustomOAuth2User();
 
-        if (user.getRole() == Role.STUDENT) {
+        if (principal.getRole() == Role.STUDENT) {
             throw new RollException(UNAUTHORIZED_ACCESS);
         }
 
-        // Roll 엔티티 생성
-        Roll roll = Roll.createRollFromDto(createRequestDto, classCode, url, user);
+        // 토큰의 user id로 User 참조 (SELECT 없음)
+        User user = userReferenceResolver.getReference(principal);
 
-        // Roll 저장
-        Roll savedRoll = rollRepository.save(roll);
+        // Roll 저장 (노드 번호가 겹쳐 같은 URL이 만들어졌으면 uk_roll_url 위반 -> 새 URL로 한 번만 재시도)
+        Roll savedRoll;
+        try {
+            savedRoll = rollRepository.save(Roll.createRollFromDto(createRequestDto, classCode, url, user));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("roll 저장 실패 - 새 URL로 재시도 (url: {}): {}", url, e.getMessage());
+            savedRoll = rollRepository.save(Roll.createRollFromDto(createRequestDto, classCode, urlGenerator.generateUrl(), user));
+        }
+        readYourWrites.userWritten(user.getId());
 
         // RollResponseDTO 생성하여 반환
         return RollResponseDTO.fromRoll(savedRoll, user.getId()); // RollResponseDTO에 URL 포함
     }
 
+    /**
+     * Roll 삭제
+     * @memo : sticker -> paper(학생, 선생님) -> 학생 -> roll 순서로 테이블마다 DELETE 한 번씩 (자식 엔티티를 조회하지 않으므로 paper 수와 무관하게 쿼리 6개)
+     * @memo : 변경 로그(PaperChange)는 roll과 연관관계가 없으므로 같은 트랜잭션에서 roll_id로 따로 삭제
+     * @memo : 커밋 후 PaperService.afterRollDeleted로 목록 캐시를 비우고 roll 버전을 올림 (삭제 전 목록, 304 응답이 남지 않도록)
+     */
     public void deleteRoll(Long id) {
         // 현재 로그인한 사용자 확인
-        String username = getCustomOAuth2User();
-
-        // username으로 User 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserException(USER_NOT_FOUND));
-
-        // Roll 조회
-        Roll roll = rollRepository.findById(id)
-                .orElseThrow(() -> new RollException(ROLL_NOT_FOUND));
-
-        // Roll의 소유자와 현재 사용자가 일치하는지 확인
-        if (!roll.getUser().getId().equals(user.getId())) {
-            throw new RollException(UNAUTHORIZED_ACCESS);
-        }
-
-        // 검증이 완료된 후 삭제
-        rollRepository.delete(roll);
+        Long userId = userReferenceResolver.getUserId(getCustomOAuth2User());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Roll 조회
+            Roll roll = rollRepository.findById(id)
+                    .orElseThrow(() -> new RollException(ROLL_NOT_FOUND));
+
+            // Roll의 소유자와 현재 사용자가 일치하는지 확인
+            if (!roll.getUser().getId().equals(userId)) {
+                throw new RollException(UNAUTHORIZED_ACCESS);
+            }
+
+            // 검증이 완료된 후 삭제 (FK 순서대로 일괄 삭제)
+            int stickers = stickerRepository.bulkDeleteByRollId(id);
+            int papers = paperRepository.bulkDeleteByRollId(id);
+            int students = studentRepository.bulkDeleteByRollId(id);
+            rollRepository.bulkDeleteById(id);
+            int changes = paperChangeRepository.bulkDeleteByRollId(id);
+            log.info("roll 삭제 - rollId: {}, paper: {}, student: {}, sticker: {}, 변경 로그: {}", id, papers, students, stickers, changes);
+        });
+        readYourWrites.userWritten(userId);
+        paperService.afterRollDeleted(id);
     }
 
+    /**
+     * Roll 이름 수정
+     * @memo : 조회한 엔티티의 이름만 바꾸고 커밋 시 변경 감지로 UPDATE (save 호출 없음)
+     */
+    @Transactional
     public RollResponseDTO updateRollName(Long id, RollUpdateRequestDto updateRequestDto) {
         Roll roll = rollRepository.findById(id)
                 .orElseThrow(() -> new RollException(ROLL_NOT_FOUND));
@@ -108,35 +146,58 @@ public class RollService {
         // Roll 이름 수정
         roll.updateName(updateRequestDto.getRollName());
 
-        // 수정된 Roll 저장
-        Roll updatedRoll = rollRepository.save(roll);
-
         // 수정된 Roll 정보를 DTO로 변환하여 반환
         Long userId = roll.getUser().getId();
-        return RollResponseDTO.fromRoll(updatedRoll,userId);
+        readYourWrites.userWritten(userId);
+        return RollResponseDTO.fromRoll(roll, userId);
     }
 
     public RollJoinResponseDto joinRoll(String url, RollJoinRequestDto joinRequestDto) {
+        return joinRoll(url, joinRequestDto, true);
+    }
+
+    /**
+     * 학생 Roll 입장
+     * @memo : includePapers = false면 토큰, 학생 정보, roll 버전만 응답 (paper 목록은 캐시되는 GET /paper/rolls/{rollId}로 따로 조회)
+     * @memo : 처리 시간은 roll.join 타이머에 히스토그램으로 기록 (outcome = joined / registered / error)
+     * @memo : roll, 기존 학생 조회는 readOnly 트랜잭션 하나로 처리하고, 신규 학생 등록은 조회 트랜잭션이 끝난 뒤 따로 저장 (커넥션을 동시에 두 개 잡지 않도록)
+     */
+    public RollJoinResponseDto joinRoll(String url, RollJoinRequestDto joinRequestDto, boolean includePapers) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            JoinTarget target = readOnlyTransactionTemplate.execute(status -> {
+                Roll roll = findJoinableRoll(url, joinRequestDto.getClassCode());
+                return new JoinTarget(roll, studentService.find(roll, joinRequestDto.getName(), joinRequestDto.getPinNumber()));
+            });
+
+            // 없으면 새로운 학생으로 등록 (동시 입장 시에도 한 명만 등록됨)
+            JoinedStudent joined = target.student()
+                    .map(student -> new JoinedStudent(student, false))
+                    .orElseGet(() -> studentService.register(target.roll(), joinRequestDto.getName(), joinRequestDto.getPinNumber()));
+            outcome = joined.registered() ? "registered" : "joined";
+            return toJoinResponse(target.roll(), joined.student(), includePapers);
+        } finally {
+            sample.stop(Timer.builder("roll.join")
+                    .description("학생 Roll 입장 처리 시간")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private Roll findJoinableRoll(String url, int classCode) {
         // Roll 조회 및 학급 코드 검증
         Roll roll = rollRepository.findByUrl(url)
                 .orElseThrow(() -> new RollException(ROLL_NOT_FOUND));
 
-        if (!roll.validateClassCode(joinRequestDto.getClassCode())) {
+        if (!roll.validateClassCode(classCode)) {
             throw new RollException(INVALID_CLASS_CODE);
         }
+        return roll;
+    }
 
-        Optional<Student> optionalStudent = studentRepository.findByNameAndPinNumberAndRollId(
-                joinRequestDto.getName(),
-                joinRequestDto.getPinNumber(),
-                roll.getId()
-        );
-
-        Student student = optionalStudent.orElseGet(() -> {
-            // 없으면 새로운 학생으로 등록
-            Student newStudent = joinRequestDto.toStudent(roll);
-            return studentRepository.save(newStudent);
-        });
-
+    private RollJoinResponseDto toJoinResponse(Roll roll, Student student, boolean includePapers) {
         // JWT 토큰 생성
         String accessToken = jwtUtil.createAccessToken(
                 student.getId().toString(),
@@ -145,37 +206,40 @@ public class RollService {
                 accessTokenExpiration
         );
 
-        String refreshToken = jwtUtil.createRefreshToken(
+        String refreshToken = refreshTokenFamilyStore.issue(
+                null,
                 student.getId().toString(),
-                refreshTokenExpiration
+                student.getName(),
+                Role.STUDENT
         );
 
-        // Paper 목록 조회
-        List<PaperResponseDTO> papers = paperService.getPapers(roll.getId());
-
-        // 응답 DTO 생성
-        return RollJoinResponseDto.builder()
+        // 응답 DTO 생성 (버전을 목록보다 먼저 읽어서, 그 사이 변경이 있으면 클라이언트가 한 번 더 조회하도록)
+        RollJoinResponseDto.RollJoinResponseDtoBuilder response = RollJoinResponseDto.builder()
                 .studentId(student.getId())
                 .rollName(roll.getRollName())
                 .studentName(student.getName())
-                .papers(papers)
+                .rollVersion(paperEventSequence.version(roll.getId()))
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .rollId(roll.getId())
-                .role(Role.STUDENT.name())
-                .build();
+                .role(Role.STUDENT.name());
+
+        if (includePapers) {
+            // Paper 목록 첫 페이지 조회
+            PaperPageDTO papers = paperService.getPapers(roll.getId(), null, PaperService.DEFAULT_PAGE_SIZE);
+            response.papers(papers.getPapers())
+                    .nextCursor(papers.getNextCursor());
+        }
+        return response.build();
     }
 
+    @Transactional(readOnly = true)
     public List<RollResponseDTO> getMyRolls() {
         // SecurityContextHolder에서 현재 로그인된 사용자 정보 가져오기
-        String username = getCustomOAuth2User();
-
-        // username으로 User 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserException(USER_NOT_FOUND));
+        User user = userReferenceResolver.getReference(getCustomOAuth2User());
 
-        // 해당 사용자의 모든 Roll 조회
-        List<Roll> rolls = rollRepository.findAllByUser(user);
+        // 해당 사용자의 모든 Roll 조회 (방금 roll을 만들거나 바꿨으면 primary에서)
+        List<Roll> rolls = readYourWrites.readUser(user.getId(), () -> rollRepository.findAllByUser(user));
 
         // Roll 목록을 DTO로 변환하여 반환
         return rolls.stream()
@@ -183,8 +247,11 @@ public class RollService {
                 .collect(Collectors.toList());
     }
 
-    private static String getCustomOAuth2User() {
-        CustomOAuth2User customOAuth2User = (CustomOAuth2User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return customOAuth2User.getUsername();
+    private static CustomOAuth2User getCustomOAuth2User() {
+        return (CustomOAuth2User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    // 입장할 roll과 이미 등록된 학생 (없으면 empty)
+    private record JoinTarget(Roll roll, Optional<Student> student) {
     }
 }
\ No newline at end of file
@@ -1,22 +1,166 @@
 package com.sparklenote.roll.util;
 
-import com.sparklenote.domain.repository.RollRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * roll URL 생성기
+ * @memo : DB 중복 확인 없이 겹치지 않는 URL을 만들기 위해 snowflake 방식의 64bit id를 사용
+ * @memo : id = 시간(ms, 41bit) + 노드 번호(10bit) + 같은 ms 안의 순번(12bit), 노드 번호는 서버 시작 시 Redis에서 임대(lease)
+ * @memo : 순서대로 증가하는 URL이 보이지 않도록 홀수를 곱해서 섞은 뒤(1:1 변환이라 충돌 없음) base62로 인코딩 (11자리)
+ * @memo : Roll.url의 unique 인덱스(uk_roll_url)가 최종 중복 방지 역할 (위반 시 RollService.createRoll이 새 URL로 한 번 재시도)
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class UrlGenerator {
 
-    private final RollRepository rollRepository;
+    static final String NODE_KEY = "roll:url:node";
+    static final String NODE_LEASE_PREFIX = "roll:url:node:lease:";
+
+    // 실행 중인 노드가 번호를 계속 쥐고 있도록 LEASE_TTL보다 자주 갱신
+    static final Duration LEASE_TTL = Duration.ofMinutes(10);
+    private static final Duration LEASE_RENEW_INTERVAL = Duration.ofMinutes(1);
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long SCRAMBLE = 0x9E3779B97F4A7C15L; // 홀수 (2^64에서 역원이 있으므로 1:1 변환)
+    private static final char[] BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int URL_LENGTH = 11; // 62^11 > 2^64
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long configuredNodeId;
+
+    // (시간 << SEQUENCE_BITS) | 순번 - CAS로 증가시켜 lock 없이 발급
+    private final AtomicLong state = new AtomicLong();
+    private volatile long nodeId;
+
+    private final String leaseOwner = UUID.randomUUID().toString();
+    private ScheduledExecutorService leaseRenewer;
+
+    @Autowired
+    public UrlGenerator(RedisTemplate<String, Object> redisTemplate,
+                        @Value("${roll.url.node-id:-1}") long configuredNodeId) {
+        this.redisTemplate = redisTemplate;
+        this.configuredNodeId = configuredNodeId;
+    }
+
+    // 테스트/벤치마크용 (노드 번호 고정)
+    UrlGenerator(long nodeId) {
+        this(null, nodeId);
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 노드 번호 발급
+     * @memo : roll.url.node-id를 지정하지 않으면 Redis INCR 값부터 차례로 비어 있는 번호를 임대 (SET NX, LEASE_TTL마다 만료)
+     * @memo : INCR 값이 1024를 넘어 돌아와도 다른 노드가 임대 중인 번호는 건너뛰므로 실행 중인 노드와 겹치지 않음
+     * @memo : Redis 장애로 임대하지 못하면 기동 실패 (임의 번호는 다른 노드와 겹쳐 같은 URL을 만들 수 있음 -> roll.url.node-id로 직접 지정)
+     */
+    @PostConstruct
+    public void assignNodeId() {
+        if (configuredNodeId >= 0) {
+            nodeId = configuredNodeId & MAX_NODE_ID;
+            return;
+        }
+        try {
+            nodeId = leaseNodeId();
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("roll URL 노드 번호를 Redis에서 발급하지 못함 - roll.url.node-id를 지정해야 함", e);
+        }
+        log.info("roll URL 노드 번호: {}", nodeId);
+
+        leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("roll-url-node-lease").daemon().factory());
+        long intervalMillis = LEASE_RENEW_INTERVAL.toMillis();
+        leaseRenewer.scheduleWithFixedDelay(this::renewLease, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void releaseNodeId() {
+        if (leaseRenewer == null) {
+            return;
+        }
+        leaseRenewer.shutdownNow();
+        try {
+            if (leaseOwner.equals(redisTemplate.opsForValue().get(leaseKey(nodeId)))) {
+                redisTemplate.delete(leaseKey(nodeId));
+            }
+        } catch (Exception e) {
+            log.warn("roll URL 노드 번호 반납 실패 - {} 후 만료", LEASE_TTL, e);
+        }
+    }
+
+    private long leaseNodeId() {
+        Long sequence = redisTemplate.opsForValue().increment(NODE_KEY);
+        for (long i = 0; i <= MAX_NODE_ID; i++) {
+            long candidate = (sequence + i) & MAX_NODE_ID;
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey(candidate), leaseOwner, LEASE_TTL))) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 roll URL 노드 번호가 없음 (" + (MAX_NODE_ID + 1) + "개 모두 임대 중)");
+    }
+
+    // Redis 장애로 갱신하지 못해도 LEASE_TTL 동안은 다른 노드가 가져갈 수 없고, 복구 후 다시 갱신
+    void renewLease() {
+        try {
+            Object owner = redisTemplate.opsForValue().get(leaseKey(nodeId));
+            if (owner == null) {
+                redisTemplate.opsForValue().setIfAbsent(leaseKey(nodeId), leaseOwner, LEASE_TTL);
+            } else if (leaseOwner.equals(owner)) {
+                redisTemplate.expire(leaseKey(nodeId), LEASE_TTL);
+            } else {
+                log.error("roll URL 노드 번호 {}를 다른 노드가 임대함 - URL이 겹치면 uk_roll_url이 막고 재시도", nodeId);
+            }
+        } catch (Exception e) {
+            log.warn("roll URL 노드 번호 임대 갱신 실패", e);
+        }
+    }
+
+    private static String leaseKey(long nodeId) {
+        return NODE_LEASE_PREFIX + nodeId;
+    }
 
     public String generateUrl() {
-        String randomUrl;
-        do {
-            randomUrl = UUID.randomUUID().toString().substring(0, 8);
-        } while (rollRepository.existsByUrl(randomUrl)); // URL 중복 체크
-        return randomUrl;
+        return encode(nextId() * SCRAMBLE);
+    }
+
+    /**
+     * 다음 id 발급
+     * @memo : 같은 ms 안에서 순번(4096개)을 다 쓰거나 시계가 뒤로 가면 다음 ms를 미리 당겨 씀 (대기 없음, 단조 증가 보장)
+     */
+    long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+        long next = state.accumulateAndGet(now, (previous, current) -> Math.max(previous + 1, current));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private static String encode(long value) {
+        char[] chars = new char[URL_LENGTH];
+        for (int i = URL_LENGTH - 1; i >= 0; i--) {
+            chars[i] = BASE62[(int) Long.remainderUnsigned(value, 62)];
+            value = Long.divideUnsigned(value, 62);
+        }
+        return new String(chars);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.sparklenote.student.service;
+
+import com.sparklenote.common.datasource.DataSourceRouting;
+import com.sparklenote.domain.entity.Roll;
+import com.sparklenote.domain.entity.Student;
+import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.domain.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentService {
+
+    private final StudentRepository studentRepository;
+
+    /**
+     * roll 입장 학생 조회
+     * @memo : 조회 후 등록(register) 사이에 같은 학생이 먼저 저장될 수 있음 (반 전체가 동시에 입장) -> register가 처리
+     */
+    public Optional<Student> find(Roll roll, String name, String pinNumber) {
+        return studentRepository.findByNameAndPinNumberAndRollId(name, pinNumber, roll.getId());
+    }
+
+    /**
+     * 신규 학생 등록, 이미 등록되어 있으면(동시 입장) 그 학생을 반환
+     * @memo : 저장은 유니크 제약(roll_id, name, pin_number)에 맡기고, 위반되면 먼저 저장된 학생을 다시 조회해서 사용
+     * @memo : 저장은 별도 트랜잭션(StudentRepository.saveAndFlush, REQUIRES_NEW)이므로 다른 트랜잭션 안에서 호출하면 커넥션을 하나 더 잡음
+     */
+    public JoinedStudent register(Roll roll, String name, String pinNumber) {
+        Student newStudent = Student.builder()
+                .name(name)
+                .pinNumber(pinNumber)
+                .roll(roll)
+                .role(Role.STUDENT)
+                .build();
+        try {
+            return new JoinedStudent(studentRepository.saveAndFlush(newStudent), true);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("동시 입장으로 이미 등록된 학생 재조회 - rollId: {}, name: {}", roll.getId(), name);
+            // 방금 저장된 학생이므로 replica가 아닌 primary에서 조회
+            return DataSourceRouting.primary(() -> studentRepository.findByNameAndPinNumberAndRollId(name, pinNumber, roll.getId()))
+                    .map(student -> new JoinedStudent(student, false))
+                    .orElseThrow(() -> e); // 유니크 제약이 아닌 다른 제약 위반
+        }
+    }
+
+    /**
+     * @param registered 이번 요청에서 새로 등록된 학생인지 여부
+     */
+    public record JoinedStudent(Student student, boolean registered) {
+    }
+}
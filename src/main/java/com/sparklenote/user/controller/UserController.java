@@ -22,10 +22,14 @@ public class UserController {
     private final UserService userService;
 
     @PostMapping("/tokenRefresh")
-    @Operation(summary = "/user/tokenRefresh", description = "Refresh Token을 통해 Access Token을 재발급하는 메소드")
+    @Operation(summary = "/user/tokenRefresh", description = "Refresh Token을 통해 Access Token과 새 Refresh Token을 재발급하는 메소드")
     public ResponseEntity<SnResponse<TokenResponseDTO>> refreshToken(@RequestHeader("RefreshToken") String refreshToken, HttpServletResponse response) {
         TokenResponseDTO newAccessToken = userService.refreshToken(refreshToken);
         response.setHeader("Authorization", "Bearer " + newAccessToken.getAccessToken());
+        if (newAccessToken.getRefreshToken() != null) {
+            // 사용한 refresh token은 폐기되므로 새 refresh token으로 교체해야 함
+            response.setHeader("RefreshToken", newAccessToken.getRefreshToken());
+        }
         return ResponseEntity.status(SUCCESS.getStatus())
                 .body(new SnResponse<>(SUCCESS, newAccessToken));
     }
@@ -11,4 +11,5 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class TokenResponseDTO {
     private String accessToken;
+    private String refreshToken; // 교체(rotation)된 새 refresh token
 }
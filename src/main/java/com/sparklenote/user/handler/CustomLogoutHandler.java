@@ -1,20 +1,24 @@
 package com.sparklenote.user.handler;
 
+import com.sparklenote.user.jwt.JWTUtil;
+import com.sparklenote.user.jwt.RefreshTokenBlacklist;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore;
+import com.sparklenote.user.jwt.VerifiedTokenCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
-
 @Component
 @RequiredArgsConstructor
 public class CustomLogoutHandler implements LogoutHandler {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final JWTUtil jwtUtil;
+    private final RefreshTokenBlacklist refreshTokenBlacklist;
+    private final RefreshTokenFamilyStore refreshTokenFamilyStore;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
@@ -22,9 +26,20 @@ public class CustomLogoutHandler implements LogoutHandler {
         String refreshToken = request.getHeader("RefreshToken");
 
         if (refreshToken != null) {
-            // Redis에 리프레시 토큰을 0초 유효기간으로 설정하여 즉시 만료
-            redisTemplate.opsForValue().set(refreshToken, "loggedOut", 1, TimeUnit.SECONDS);
-            // 0은 RuntimeException 발생으로 1로 변경
+            // 리프레시 토큰을 남은 유효시간 동안 revoke (재발급 요청 시 거부됨)
+            // rotation family가 있으면 family 전체를 폐기
+            jwtUtil.verify(refreshToken).ifPresent(claims -> {
+                refreshTokenBlacklist.revoke(refreshToken, claims);
+                if (claims.familyId() != null) {
+                    refreshTokenFamilyStore.revoke(claims.familyId());
+                }
+            });
+        }
+
+        // access token은 만료 시점까지 사용할 수 없도록 revoke (검증 캐시에서도 제거)
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            verifiedTokenCache.revoke(authorizationHeader.substring(7));
         }
     }
 }
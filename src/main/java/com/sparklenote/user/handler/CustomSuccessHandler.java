@@ -3,6 +3,7 @@ package com.sparklenote.user.handler;
 
 import com.sparklenote.domain.enumType.Role;
 import com.sparklenote.user.jwt.JWTUtil;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore;
 import com.sparklenote.user.oAuth2.CustomOAuth2User;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -22,21 +23,21 @@ import java.io.IOException;
 public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JWTUtil jwtUtil;
+    private final RefreshTokenFamilyStore refreshTokenFamilyStore;
 
     @Value("${jwt.accessExpiration}")
     private Long accessTokenExpiration;
 
-    @Value("${jwt.refreshExpiration}")
-    private Long refreshTokenExpiration;
-
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
         CustomOAuth2User customUserDetails = (CustomOAuth2User) authentication.getPrincipal();
         String username = customUserDetails.getUsername();
         String name = customUserDetails.getName();
 
-        String accessToken = jwtUtil.createAccessToken(username, name, Role.TEACHER, accessTokenExpiration);
-        String refreshToken = jwtUtil.createRefreshToken(username, refreshTokenExpiration);
+        Long userId = customUserDetails.getUserId();
+
+        String accessToken = jwtUtil.createAccessToken(userId, username, name, Role.TEACHER, accessTokenExpiration);
+        String refreshToken = refreshTokenFamilyStore.issue(userId, username, name, Role.TEACHER);
 
         // 프론트엔드의 콜백 페이지로 리다이렉트, 프래그먼트에 토큰을 추가
         String targetUrl = UriComponentsBuilder.fromUriString("https://sparklenote.site/oauth/callback")
@@ -20,11 +20,12 @@ import org.springframework.util.AntPathMatcher;
 
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -47,22 +48,26 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         String token = authorizationHeader.substring(7);
-        if (jwtUtil.isExpired(token) || !jwtUtil.isValidToken(token)) {
+        // 서명 검증 + 만료 확인 + claim 추출을 한 번의 파싱으로 처리 (이미 검증한 토큰은 캐시 사용)
+        // role claim이 없는 토큰(refresh token)으로는 인증하지 않음
+        Optional<JwtClaims> verified = verifiedTokenCache.verify(token);
+        if (verified.isEmpty() || verified.get().role() == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
         // 토큰에서 정보 획득
-        String username = jwtUtil.getUsername(token);
-        String roleName = jwtUtil.getRole(token);
-        String name = jwtUtil.getName(token);
-        Role role = Role.valueOf(roleName);
+        JwtClaims claims = verified.get();
+        String username = claims.username();
+        String name = claims.name();
+        Role role = Role.valueOf(claims.role());
 
         // 역할에 따라 다른 인증 객체 생성
         Authentication authToken;
         if (role == Role.TEACHER) {  // 선생님인 경우
 
             UserResponseDTO userResponseDTO = UserResponseDTO.builder()
+                    .userId(claims.userId())
                     .username(username)
                     .name(name)  // name 설정 확인
                     .role(role)
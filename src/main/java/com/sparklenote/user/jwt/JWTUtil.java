@@ -3,6 +3,7 @@ package com.sparklenote.user.jwt;
 import com.sparklenote.domain.enumType.Role;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,7 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -20,13 +22,27 @@ public class JWTUtil {
 
     private SecretKey secretKey;
 
+    /**
+     * @memo : parser는 thread-safe하므로 요청마다 만들지 않고 한 번 만들어서 재사용
+     */
+    private final JwtParser jwtParser;
+
     public JWTUtil(@Value("${jwt.secret}") String secret) {
         log.info("Initializing JWTUtil with secret");
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     public String createAccessToken(String username,String name, Role role, Long expiredMs) {
+        return createAccessToken(null, username, name, role, expiredMs);
+    }
+
+    /**
+     * @memo : 선생님 토큰에는 user id(uid)를 함께 넣어서, 요청마다 username으로 User를 조회하지 않도록 함
+     */
+    public String createAccessToken(Long userId, String username, String name, Role role, Long expiredMs) {
         return Jwts.builder()
+                .claim("uid", userId)
                 .claim("username", username)
                 .claim("role", role.name())
                 .claim("name",name)
@@ -36,8 +52,13 @@ public class JWTUtil {
                 .compact();
     }
 
-    public String createRefreshToken(String username, Long expiredMs) {
+    /**
+     * @memo : 로그아웃/재사용 감지를 위해 jti(tokenId)와 family id를 함께 발급 (RefreshTokenFamilyStore 참고)
+     */
+    public String createRefreshToken(String username, String familyId, String tokenId, Long expiredMs) {
         return Jwts.builder()
+                .id(tokenId)
+                .claim("fam", familyId)
                 .claim("username", username)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
@@ -45,52 +66,19 @@ public class JWTUtil {
                 .compact();
     }
 
-    public String getUsername(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
-    }
-
-    public String getRole(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
-    }
-    public String getName(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("name", String.class);
-    }
-
-
-    public Boolean isExpired(String token) {
+    /**
+     * 서명 검증, 만료 확인, claim 추출을 한 번의 파싱으로 처리
+     * @memo : 위조되었거나 만료된 토큰이면 empty 반환
+     */
+    public Optional<JwtClaims> verify(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration()
-                    .before(new Date());
+            return Optional.of(JwtClaims.from(jwtParser.parseSignedClaims(token).getPayload()));
         } catch (ExpiredJwtException e) {
-            return true;
-        } catch (JwtException e) {
-            // 기타 JWT 관련 예외 처리 (필요시)
-            return true;
+            log.debug("토큰이 만료되었습니다.");
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 토큰입니다.");
+            return Optional.empty();
         }
     }
-
-    public boolean isValidToken(String token) {
-        try {
-            // 서명 검증 및 토큰 파싱
-            Jwts.parser().verifyWith(secretKey).build().parseClaimsJws(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            // 토큰이 만료된 경우
-            log.error("토큰이 만료되었습니다.");
-            return false;
-        } catch (JwtException e) {
-            log.error("유효하지 않은 토큰입니다.");
-            return false;
-        }
-    }
-
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.sparklenote.user.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT의 claim 값
+ * @memo : JWTUtil.verify로 한 번만 파싱해서 필요한 값을 모두 꺼내 쓰기 위해 사용
+ * @memo : refresh token은 role, name claim이 없으므로 null, access token은 id(jti), familyId가 없으므로 null
+ * @memo : userId(uid)는 선생님 access token에만 있음 (학생 토큰, 이전에 발급된 토큰은 null)
+ */
+public record JwtClaims(String id, String familyId, Long userId, String username, String name, String role, Date expiration) {
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.getId(),
+                claims.get("fam", String.class),
+                claims.get("uid", Long.class),
+                claims.get("username", String.class),
+                claims.get("name", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration()
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package com.sparklenote.user.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃된 refresh token 목록 (Redis 저장 + 로컬 bloom filter)
+ * @memo : Redis에 revoked:refresh:{jti}를 토큰의 남은 유효시간만큼 저장
+ * @memo : 대부분의 재발급 요청은 revoke되지 않은 토큰이므로, bloom filter에 없으면 Redis 조회 없이 통과
+ * @memo : 다른 노드의 revoke는 pub/sub으로 받아 bloom filter에 추가하고, 주기적으로 Redis 기준으로 다시 만듦 (만료된 항목 정리)
+ * @memo : Redis 장애로 저장하지 못한 revoke는 이 노드에 exp까지 보관해서 거부 (로그아웃/재발급 요청은 실패시키지 않음)
+ * @memo : bloom filter에 걸린 토큰을 Redis로 확인하지 못하면 revoke된 것으로 보고 거부 (fail closed, filter에 없는 토큰은 Redis 장애와 관계없이 통과)
+ */
+@Slf4j
+@Component
+public class RefreshTokenBlacklist implements MessageListener {
+
+    static final String KEY_PREFIX = "revoked:refresh:";
+    static final String CHANNEL = "jwt:refresh:revoked";
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long expectedRevocations;
+    private final Duration rebuildInterval;
+
+    private final ScheduledExecutorService rebuildScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("refresh-token-blacklist").daemon().factory());
+
+    private volatile BloomFilter filter;
+    // 다시 만드는 중인 filter (그 사이 들어온 revoke도 반영하기 위해 사용)
+    private volatile BloomFilter rebuilding;
+    // Redis에 저장하지 못한 revoke (token id -> exp)
+    private final Map<String, Long> unsaved = new ConcurrentHashMap<>();
+
+    public RefreshTokenBlacklist(RedisTemplate<String, Object> redisTemplate,
+                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                 @Value("${jwt.blacklist.expected-revocations:100000}") long expectedRevocations,
+                                 @Value("${jwt.blacklist.rebuild-interval:5m}") Duration rebuildInterval) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.expectedRevocations = expectedRevocations;
+        this.rebuildInterval = rebuildInterval;
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    public void start() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        long intervalMillis = rebuildInterval.toMillis();
+        rebuildScheduler.scheduleWithFixedDelay(this::rebuild, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildScheduler.shutdownNow();
+    }
+
+    /**
+     * refresh token을 남은 유효시간 동안 사용할 수 없도록 등록
+     * @memo : jti가 없는 (이전에 발급된) 토큰은 토큰 digest를 id로 사용
+     */
+    public void revoke(String refreshToken, JwtClaims claims) {
+        String tokenId = tokenId(refreshToken, claims);
+        long remainingMillis = claims.expiration().getTime() - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "loggedOut", remainingMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.error("refresh token revoke Redis 저장 실패 - 이 노드에서만 거부", e);
+            unsaved.put(tokenId, claims.expiration().getTime());
+        }
+        add(tokenId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenId);
+        } catch (Exception e) {
+            log.error("refresh token revoke Redis 발행 실패", e);
+        }
+    }
+
+    public boolean isRevoked(String refreshToken, JwtClaims claims) {
+        String tokenId = tokenId(refreshToken, claims);
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        if (unsaved.containsKey(tokenId)) {
+            return true;
+        }
+        // bloom filter는 오탐이 있으므로 Redis로 확인 (Redis 장애 시에는 revoke된 것으로 보고 거부 -> 다시 로그인)
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (Exception e) {
+            log.error("refresh token revoke 여부 Redis 조회 실패 - 거부", e);
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redis에 남아있는 revoke 목록으로 bloom filter를 다시 만듦
+     * @memo : TTL이 지나 Redis에서 사라진 항목은 새 filter에 포함되지 않음
+     */
+    void rebuild() {
+        try {
+            BloomFilter next = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+            rebuilding = next;
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+            try (Cursor<String> keys = redisTemplate.scan(options)) {
+                keys.forEachRemaining(key -> next.put(key.substring(KEY_PREFIX.length())));
+            }
+            long now = System.currentTimeMillis();
+            unsaved.values().removeIf(expiresAt -> expiresAt <= now);
+            unsaved.keySet().forEach(next::put);
+            filter = next;
+        } catch (Exception e) {
+            log.error("refresh token blacklist 재구성 실패", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void add(String tokenId) {
+        filter.put(tokenId);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+
+    private static String tokenId(String refreshToken, JwtClaims claims) {
+        return Optional.ofNullable(claims.id()).orElseGet(() -> VerifiedTokenCache.digest(refreshToken));
+    }
+}
@@ -0,0 +1,111 @@
+package com.sparklenote.user.jwt;
+
+import com.sparklenote.domain.enumType.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 로그인 단위(family)로 refresh token 상태를 관리하는 저장소
+ * @memo : family마다 Redis hash(refresh:family:{familyId}) 하나에 현재 토큰 id(jti)와 사용자 정보(uid, username, name, role)를 저장
+ * @memo : 재발급할 때마다 새 refresh token으로 교체(rotation)하고, Lua 스크립트로 비교+교체를 한 번의 Redis 호출로 처리
+ * @memo : 이미 교체된 이전 토큰이 다시 사용되면 탈취로 보고 family 전체를 삭제
+ */
+@Slf4j
+@Component
+public class RefreshTokenFamilyStore {
+
+    static final String KEY_PREFIX = "refresh:family:";
+
+    // KEYS[1] = family key, ARGV = current, uid(학생은 빈 문자열), username, name, role, ttl(ms)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ISSUE = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'current', ARGV[1], 'uid', ARGV[2], 'username', ARGV[3], 'name', ARGV[4], 'role', ARGV[5])
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            return {'ISSUED'}
+            """, List.class);
+
+    // KEYS[1] = family key, ARGV = 제출된 jti, 새 jti, ttl(ms)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'current')
+            if not current then
+                return {'UNKNOWN'}
+            end
+            if current ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return {'REUSED'}
+            end
+            redis.call('HSET', KEYS[1], 'current', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            local user = redis.call('HMGET', KEYS[1], 'uid', 'username', 'name', 'role')
+            return {'ROTATED', user[1] or '', user[2], user[3], user[4]}
+            """, List.class);
+
+    private final JWTUtil jwtUtil;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Long refreshTokenExpiration;
+
+    public RefreshTokenFamilyStore(JWTUtil jwtUtil,
+                                   RedisTemplate<String, Object> redisTemplate,
+                                   @Value("${jwt.refreshExpiration}") Long refreshTokenExpiration) {
+        this.jwtUtil = jwtUtil;
+        this.redisTemplate = redisTemplate;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+    }
+
+    /**
+     * 로그인 시 새 family를 만들고 첫 refresh token 발급
+     */
+    public String issue(Long userId, String username, String name, Role role) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        redisTemplate.execute(ISSUE, List.of(KEY_PREFIX + familyId),
+                tokenId, userId == null ? "" : userId.toString(), username, name, role.name(),
+                String.valueOf(refreshTokenExpiration));
+        return jwtUtil.createRefreshToken(username, familyId, tokenId, refreshTokenExpiration);
+    }
+
+    /**
+     * 제출된 refresh token이 family의 현재 토큰이면 새 토큰으로 교체
+     * @memo : 사용자 정보는 family에 저장된 값을 사용하므로 DB 조회가 필요 없음
+     */
+    @SuppressWarnings("unchecked")
+    public Rotation rotate(JwtClaims claims) {
+        String newTokenId = UUID.randomUUID().toString();
+        List<Object> result = redisTemplate.execute(ROTATE, List.of(KEY_PREFIX + claims.familyId()),
+                claims.id(), newTokenId, String.valueOf(refreshTokenExpiration));
+
+        Status status = Status.valueOf(String.valueOf(result.get(0)));
+        if (status != Status.ROTATED) {
+            if (status == Status.REUSED) {
+                log.warn("이미 사용된 refresh token 재사용 감지 - family 폐기: {}", claims.familyId());
+            }
+            return new Rotation(status, null, null, null, null, null);
+        }
+
+        String uid = (String) result.get(1);
+        String username = (String) result.get(2);
+        String refreshToken = jwtUtil.createRefreshToken(username, claims.familyId(), newTokenId, refreshTokenExpiration);
+        return new Rotation(status, refreshToken, uid.isEmpty() ? null : Long.valueOf(uid), username,
+                (String) result.get(3), Role.valueOf((String) result.get(4)));
+    }
+
+    // 로그아웃 시 family 전체 폐기
+    public void revoke(String familyId) {
+        redisTemplate.delete(KEY_PREFIX + familyId);
+    }
+
+    public enum Status {
+        ISSUED, ROTATED, REUSED, UNKNOWN
+    }
+
+    public record Rotation(Status status, String refreshToken, Long userId, String username, String name, Role role) {
+    }
+}
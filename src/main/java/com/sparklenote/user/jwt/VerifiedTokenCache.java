@@ -0,0 +1,193 @@
+package com.sparklenote.user.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증이 끝난 access token의 claim을 보관하는 캐시
+ * @memo : 같은 토큰으로 들어오는 요청은 서명 검증과 JSON 디코딩 없이 claim을 바로 사용
+ * @memo : 토큰 원문 대신 SHA-256 digest를 key로 사용하고, 토큰의 exp가 지나면 캐시에서도 만료
+ * @memo : 로그아웃한 토큰은 Redis에 revoked:access:{digest}를 exp까지 저장하고, pub/sub으로 다른 노드의 로컬 revoked 목록에도 전달
+ * @memo : 토큰을 파싱할 때(캐시 miss, 캐시를 끈 경우 매 요청) Redis의 revoke 기록을 확인 -> pub/sub 메시지를 놓친 노드, 재시작한 노드도 거부
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache implements MessageListener {
+
+    static final String REVOKED_KEY_PREFIX = "revoked:access:";
+    static final String REVOKED_CHANNEL = "jwt:revoked";
+
+    private final JWTUtil jwtUtil;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final boolean enabled;
+
+    private final Cache<String, JwtClaims> verified;
+    private final Cache<String, Long> revoked;
+
+    public VerifiedTokenCache(JWTUtil jwtUtil,
+                              RedisTemplate<String, Object> redisTemplate,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              @Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(untilExpiration(JwtClaims::expiration))
+                .recordStats()
+                .build();
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(untilExpiration((Long expiresAt) -> new Date(expiresAt)))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt.verified");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+    }
+
+    /**
+     * 토큰 검증 (캐시에 있으면 파싱 생략)
+     * @memo : 위조, 만료, 로그아웃된 토큰이면 empty 반환
+     * @memo : 캐시 사용 여부와 관계없이 revoke 여부를 확인
+     */
+    public Optional<JwtClaims> verify(String token) {
+        String digest = digest(token);
+        if (revoked.getIfPresent(digest) != null) {
+            return Optional.empty();
+        }
+
+        if (enabled) {
+            JwtClaims cached = verified.getIfPresent(digest);
+            if (cached != null && cached.expiration().after(new Date())) {
+                return Optional.of(cached);
+            }
+        }
+
+        Optional<JwtClaims> claims = jwtUtil.verify(token);
+        if (claims.isEmpty()) {
+            return claims;
+        }
+        if (isRevokedInRedis(digest)) {
+            markRevoked(digest, claims.get().expiration().getTime());
+            return Optional.empty();
+        }
+        if (enabled) {
+            verified.put(digest, claims.get());
+        }
+        return claims;
+    }
+
+    /**
+     * 로그아웃 시 토큰을 남은 유효시간 동안 사용할 수 없도록 처리
+     * @memo : Redis 장애 시 로그만 남기고 이 노드의 revoked 목록으로 거부 (로그아웃 요청은 실패시키지 않음)
+     */
+    public void revoke(String token) {
+        Optional<JwtClaims> claims = jwtUtil.verify(token);
+        if (claims.isEmpty()) {
+            return;
+        }
+        String digest = digest(token);
+        long expiresAt = claims.get().expiration().getTime();
+        markRevoked(digest, expiresAt);
+
+        long remainingMillis = expiresAt - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + digest, "loggedOut", remainingMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.error("토큰 revoke Redis 저장 실패", e);
+        }
+        try {
+            redisTemplate.convertAndSend(REVOKED_CHANNEL, digest + ":" + expiresAt);
+        } catch (Exception e) {
+            log.error("토큰 revoke Redis 발행 실패", e);
+        }
+    }
+
+    // Redis 장애 시에는 로컬 revoked 목록만으로 판단 (모든 요청을 실패시키지 않도록)
+    private boolean isRevokedInRedis(String digest) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + digest));
+        } catch (Exception e) {
+            log.error("토큰 revoke Redis 조회 실패", e);
+            return false;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(':');
+            markRevoked(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (Exception e) {
+            log.error("토큰 revoke 메시지 처리 실패", e);
+        }
+    }
+
+    private void markRevoked(String digest, long expiresAt) {
+        revoked.put(digest, expiresAt);
+        verified.invalidate(digest);
+    }
+
+    static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 토큰의 exp 시점까지만 캐시에 보관
+    private static <V> Expiry<String, V> untilExpiration(Function<V, Date> expiration) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, V value, long currentTime) {
+                long remainingMillis = expiration.apply(value).getTime() - System.currentTimeMillis();
+                return Duration.ofMillis(Math.max(remainingMillis, 0)).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
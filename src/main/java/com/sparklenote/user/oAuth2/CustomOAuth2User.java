@@ -1,5 +1,6 @@
 package com.sparklenote.user.oAuth2;
 
+import com.sparklenote.domain.enumType.Role;
 import com.sparklenote.user.dto.response.UserResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,4 +43,13 @@ public class CustomOAuth2User implements OAuth2User {
     public String getUsername() {
         return userResponseDTO.getUsername();
     }
+
+    // 이전에 발급된 토큰으로 인증된 경우 null
+    public Long getUserId() {
+        return userResponseDTO.getUserId();
+    }
+
+    public Role getRole() {
+        return userResponseDTO.getRole();
+    }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -22,7 +23,12 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * 소셜 로그인 사용자 조회, 없으면 저장
+     * @memo : 제공자 사용자 정보 조회(HTTP)가 끝난 뒤에 회원 조회, 저장만 트랜잭션(커넥션 하나)으로 처리
+     */
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
 
@@ -45,6 +51,10 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         }
 
         String username = oAuth2Response.getProvider()+" "+oAuth2Response.getProviderId();
+        return transactionTemplate.execute(status -> saveOrUpdate(oAuth2Response, username, socialType));
+    }
+
+    private OAuth2User saveOrUpdate(OAuth2Response oAuth2Response, String username, SocialType socialType) {
         Optional<User> optionalUser = userRepository.findByUsername(username);
 
 
@@ -61,10 +71,11 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
             // DTO를 User 객체로 변환
             User user = userRequestDTO.toEntity();
-            userRepository.save(user);
+            User savedUser = userRepository.save(user);
 
             // CustomOAuth2User 객체로 변환해서 return
             UserResponseDTO userResponseDTO = UserResponseDTO.builder()
+                    .userId(savedUser.getId())
                     .username(username)
                     .email(oAuth2Response.getEmail())
                     .name(oAuth2Response.getName())
@@ -88,11 +99,11 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             // 이미 회원이 존재하는 경우
             User existUser = optionalUser.get();
 
+            // 기존 엔티티 업데이트 (커밋 시 변경 감지로 UPDATE)
             existUser.updateFromDTO(new UserRequestDTO(oAuth2Response.getEmail(), oAuth2Response.getName()));
 
-            userRepository.save(existUser); // 기존 엔티티 업데이트
-
             UserResponseDTO userResponseDTO = new UserResponseDTO(username, oAuth2Response.getName(), oAuth2Response.getEmail(), Role.TEACHER, socialType);
+            userResponseDTO.setUserId(existUser.getId());
             return new CustomOAuth2User(userResponseDTO);
         }
     }
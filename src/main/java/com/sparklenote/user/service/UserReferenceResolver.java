@@ -0,0 +1,52 @@
+package com.sparklenote.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparklenote.common.exception.UserException;
+import com.sparklenote.domain.entity.User;
+import com.sparklenote.domain.repository.UserRepository;
+import com.sparklenote.user.oAuth2.CustomOAuth2User;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static com.sparklenote.common.error.code.UserErrorCode.USER_NOT_FOUND;
+
+/**
+ * 인증된 선생님(principal)을 User로 바꿔주는 컴포넌트
+ * @memo : access token의 uid로 getReferenceById(프록시)를 반환하므로, id만 필요한 경우 SELECT가 일어나지 않음
+ * @memo : uid가 없는 이전 토큰은 username으로 한 번 조회한 id를 캐시해서 사용
+ */
+@Component
+public class UserReferenceResolver {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> userIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public UserReferenceResolver(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public Long getUserId(CustomOAuth2User principal) {
+        if (principal.getUserId() != null) {
+            return principal.getUserId();
+        }
+        Long userId = userIds.get(principal.getUsername(), username -> userRepository.findByUsername(username)
+                .map(User::getId)
+                .orElse(null));
+        if (userId == null) {
+            throw new UserException(USER_NOT_FOUND);
+        }
+        return userId;
+    }
+
+    /**
+     * @memo : 반환된 User는 초기화되지 않은 프록시이므로 id 외의 필드를 읽으면 그때 조회됨
+     */
+    public User getReference(CustomOAuth2User principal) {
+        return userRepository.getReferenceById(getUserId(principal));
+    }
+}
@@ -7,6 +7,10 @@ import com.sparklenote.domain.repository.UserRepository;
 import com.sparklenote.user.dto.response.TokenResponseDTO;
 import com.sparklenote.user.dto.response.UserInfoResponseDTO;
 import com.sparklenote.user.jwt.JWTUtil;
+import com.sparklenote.user.jwt.JwtClaims;
+import com.sparklenote.user.jwt.RefreshTokenBlacklist;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore.Rotation;
 import com.sparklenote.user.oAuth2.CustomOAuth2User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +20,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import static com.sparklenote.common.error.code.UserErrorCode.TOKEN_IS_NOT_VALID;
+import static com.sparklenote.common.error.code.UserErrorCode.TOKEN_IS_REVOKED;
 import static com.sparklenote.common.error.code.UserErrorCode.USER_NOT_FOUND;
 
 
@@ -28,18 +33,49 @@ public class UserService {
     private Long accessTokenExpiration;
 
     private final JWTUtil jwtUtil;
+    private final RefreshTokenBlacklist refreshTokenBlacklist;
+    private final RefreshTokenFamilyStore refreshTokenFamilyStore;
     private final UserRepository userRepository;
     /**
      * 토큰을 재발급 하는 메소드
      */
     public TokenResponseDTO refreshToken(String refreshToken) {
         // 리프레시 토큰 검증
-        if (!jwtUtil.isValidToken(refreshToken)) {
+        JwtClaims claims = jwtUtil.verify(refreshToken)
+                .orElseThrow(() -> new UserException(TOKEN_IS_NOT_VALID));
+
+        // 로그아웃된 리프레시 토큰인지 확인
+        if (refreshTokenBlacklist.isRevoked(refreshToken, claims)) {
+            throw new UserException(TOKEN_IS_REVOKED);
+        }
+
+        // family 없이 발급된 이전 토큰은 기존 방식으로 재발급
+        if (claims.familyId() == null) {
+            return refreshLegacyToken(claims);
+        }
+
+        // 현재 토큰이면 새 refresh token으로 교체 (Redis 호출 한 번, DB 조회 없음)
+        Rotation rotation = refreshTokenFamilyStore.rotate(claims);
+        if (rotation.status() == RefreshTokenFamilyStore.Status.REUSED) {
+            throw new UserException(TOKEN_IS_REVOKED);
+        }
+        if (rotation.status() != RefreshTokenFamilyStore.Status.ROTATED) {
             throw new UserException(TOKEN_IS_NOT_VALID);
         }
 
+        String newAccessToken = jwtUtil.createAccessToken(
+                rotation.userId(),
+                rotation.username(),
+                rotation.name(),
+                rotation.role(),
+                accessTokenExpiration
+        );
+        return new TokenResponseDTO(newAccessToken, rotation.refreshToken());
+    }
+
+    private TokenResponseDTO refreshLegacyToken(JwtClaims claims) {
         // 리프레시 토큰에서 사용자 정보 추출
-        String username = jwtUtil.getUsername(refreshToken);
+        String username = claims.username();
 
         // DB에서 사용자 정보 조회
         User user = userRepository.findByUsername(username)
@@ -47,12 +83,13 @@ public class UserService {
 
         // 새로운 엑세스 토큰 생성
         String newAccessToken = jwtUtil.createAccessToken(
+                user.getId(),
                 username,
                 user.getName(),
                 Role.TEACHER,
                 accessTokenExpiration
         );
-        return new TokenResponseDTO(newAccessToken);
+        return new TokenResponseDTO(newAccessToken, null);
     }
 
     public UserInfoResponseDTO getUserInfo() {
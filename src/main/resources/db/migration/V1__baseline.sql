@@ -0,0 +1,64 @@
+-- 기존 ddl-auto(update)로 만들어진 스키마
+-- 운영 DB는 이미 테이블이 있으므로 baseline-on-migrate로 V1을 적용된 것으로 처리하고 V2부터 실행
+
+create table User (
+    user_id     bigint not null auto_increment,
+    created_at  datetime(6),
+    updated_at  datetime(6),
+    email       varchar(255),
+    name        varchar(255),
+    role        enum ('TEACHER','STUDENT'),
+    social_type enum ('NAVER','KAKAO'),
+    username    varchar(255),
+    primary key (user_id)
+);
+
+create table Roll (
+    roll_id    bigint  not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    class_code integer not null,
+    roll_name  varchar(255),
+    url        varchar(255),
+    user_id    bigint,
+    primary key (roll_id)
+);
+
+create table Student (
+    student_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    name       varchar(255),
+    pin_number varchar(255),
+    role       enum ('TEACHER','STUDENT'),
+    roll_id    bigint not null,
+    primary key (student_id)
+);
+
+create table Paper (
+    paper_id   bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    content    varchar(255),
+    sticker    varchar(255),
+    created_by enum ('STUDENT','USER'),
+    roll_id    bigint,
+    student_id bigint,
+    user_id    bigint,
+    primary key (paper_id)
+);
+
+create table Sticker (
+    sticker_id   bigint not null auto_increment,
+    sticker_name varchar(255),
+    paper_id     bigint,
+    primary key (sticker_id)
+);
+
+-- 외래키 (MySQL/H2 모두 외래키 컬럼에 인덱스를 자동으로 생성)
+alter table Roll add constraint fk_roll_user foreign key (user_id) references User (user_id);
+alter table Student add constraint fk_student_roll foreign key (roll_id) references Roll (roll_id);
+alter table Paper add constraint fk_paper_roll foreign key (roll_id) references Roll (roll_id);
+alter table Paper add constraint fk_paper_student foreign key (student_id) references Student (student_id);
+alter table Paper add constraint fk_paper_user foreign key (user_id) references User (user_id);
+alter table Sticker add constraint fk_sticker_paper foreign key (paper_id) references Paper (paper_id);
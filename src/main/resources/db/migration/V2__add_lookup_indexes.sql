@@ -0,0 +1,11 @@
+-- 리포지토리 조회 조건에 맞춘 인덱스
+-- Paper.roll_id(findByRoll_Id, keyset 페이지 조회), Roll.user_id(findAllByUser)는 외래키 인덱스로 처리됨
+
+-- RollRepository.findByUrl / existsByUrl (학생 입장 시 매번 조회)
+create unique index uk_roll_url on Roll (url);
+
+-- UserRepository.findByUsername (소셜 로그인, uid 없는 토큰)
+create unique index uk_user_username on User (username);
+
+-- StudentRepository.findByNameAndPinNumberAndRollId (학생 입장 시 매번 조회)
+create index idx_student_roll_name_pin on Student (roll_id, name, pin_number);
@@ -0,0 +1,25 @@
+-- 같은 roll에 동시에 입장하면서 생긴 중복 학생(roll_id, name, pin_number)을 정리하고 유니크 제약으로 막는다
+-- 중복 중 가장 먼저 만들어진 학생(student_id 최소)을 남기고, 나머지 학생이 쓴 Paper는 남는 학생으로 옮긴다
+-- (DISTINCT 파생 테이블 : MySQL에서 수정 대상 테이블을 서브쿼리에서 다시 읽기 위해 먼저 구체화시킴)
+
+update Paper p
+set student_id = (select min(d.student_id)
+                    from Student s
+                             join Student d on d.roll_id = s.roll_id and d.name = s.name and d.pin_number = s.pin_number
+                    where s.student_id = p.student_id)
+where p.student_id in (select dup.student_id
+                       from (select distinct s.student_id
+                             from Student s
+                                      join Student d on d.roll_id = s.roll_id and d.name = s.name and d.pin_number = s.pin_number
+                                 and d.student_id < s.student_id) dup);
+
+delete from Student
+where student_id in (select dup.student_id
+                     from (select distinct s.student_id
+                           from Student s
+                                    join Student d on d.roll_id = s.roll_id and d.name = s.name and d.pin_number = s.pin_number
+                               and d.student_id < s.student_id) dup);
+
+-- 유니크 인덱스를 먼저 만들어야 MySQL이 fk_student_roll용 인덱스로 넘겨받고 기존 인덱스를 지울 수 있음
+create unique index uk_student_roll_name_pin on Student (roll_id, name, pin_number);
+drop index idx_student_roll_name_pin on Student;
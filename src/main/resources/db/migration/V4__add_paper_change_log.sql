@@ -0,0 +1,15 @@
+-- paper 변경 로그 (GET /paper/rolls/{rollId}/changes?since= 델타 동기화용)
+-- version은 roll별 paper 이벤트 id (PaperEventSequence), roll/paper 삭제 후에도 남아야 하므로 외래키 없음
+create table PaperChange (
+    paper_change_id bigint not null auto_increment,
+    created_at      datetime(6),
+    updated_at      datetime(6),
+    roll_id         bigint not null,
+    version         bigint not null,
+    paper_id        bigint not null,
+    type            enum ('CREATED','UPDATED','DELETED') not null,
+    primary key (paper_change_id)
+);
+
+-- PaperChangeRepository.findByRollIdAndVersionGreaterThanOrderByVersion (since 이후 범위 조회)
+create unique index uk_paper_change_roll_version on PaperChange (roll_id, version);
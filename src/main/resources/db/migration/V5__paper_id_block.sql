@@ -0,0 +1,10 @@
+-- Paper id를 insert마다 받는 auto_increment 대신 블록(Paper.ID_BLOCK_SIZE) 단위로 미리 할당 -> Hibernate JDBC batch insert 가능
+-- Hibernate pooled 방식 : 저장된 값 v를 받으면 (v - 50 + 1) ~ v 범위를 사용하므로 기존 최대 id + 50 + 1로 시작
+create table IdBlock (
+    name     varchar(255) not null,
+    next_val bigint,
+    primary key (name)
+);
+
+insert into IdBlock (name, next_val)
+select 'paper', coalesce(max(paper_id), 0) + 51 from Paper;
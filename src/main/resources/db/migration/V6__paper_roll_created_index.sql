@@ -0,0 +1,3 @@
+-- PaperRepository.findResponsesByRollIdAfter : roll의 paper를 (created_at, paper_id) 순서로 keyset 페이지 조회
+-- paper_id는 노드별 IdBlock 할당이라 생성 순서를 따르지 않으므로 생성 시각을 먼저 정렬 기준으로 사용
+create index idx_paper_roll_created on Paper (roll_id, created_at, paper_id);
@@ -0,0 +1,150 @@
+package com.sparklenote.common.datasource;
+
+import com.sparklenote.common.config.ReplicaDataSourceConfig;
+import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.domain.entity.Roll;
+import com.sparklenote.domain.entity.User;
+import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.domain.repository.PaperRepository;
+import com.sparklenote.domain.repository.RollRepository;
+import com.sparklenote.domain.repository.UserRepository;
+import com.sparklenote.paper.dto.request.PaperCursor;
+import com.sparklenote.paper.dto.request.PaperRequestDTO;
+import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * primary / replica 라우팅 검증
+ * @memo : 복제되지 않는 H2 DB 두 개를 primary, replica로 사용 -> 어느 쪽에서 읽었는지 결과로 구분됨
+ * @memo : 서비스처럼 트랜잭션을 직접 열어야 하므로 테스트 트랜잭션 없이 실행 (이 테스트 전용 DB라 정리하지 않음)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=" + ReadWriteRoutingTest.PRIMARY_URL,
+        "datasource.replica.url=" + ReadWriteRoutingTest.REPLICA_URL,
+        "datasource.replica.username=sa"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplicaDataSourceConfig.class, ReadYourWrites.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadWriteRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RollRepository rollRepository;
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    // 복제 대신 replica에 직접 넣는 용도 (replica pool은 readOnly)
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("쓰기는 primary, readOnly 트랜잭션 조회는 replica로 간다")
+    void routesByReadOnly() {
+        // GIVEN
+        User written = userRepository.save(teacher("primary"));
+        String replicated = "naver replicated" + System.nanoTime();
+        replica.update("insert into User (name, role, username) values ('복제된 선생님', 'TEACHER', ?)", replicated);
+
+        // WHEN & THEN : 저장은 primary에만
+        assertThat(new JdbcTemplate(primaryDataSource).queryForObject(
+                "select count(*) from User where username = ?", Long.class, written.getUsername())).isEqualTo(1L);
+        assertThat(replica.queryForObject(
+                "select count(*) from User where username = ?", Long.class, written.getUsername())).isZero();
+
+        // 조회는 replica에서
+        assertThat(userRepository.findByUsername(replicated)).isPresent();
+        assertThat(userRepository.findByUsername(written.getUsername())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("paper를 쓴 roll은 일정 시간 동안 primary에서 읽는다")
+    void readYourWrites() {
+        // GIVEN : primary에만 있는 paper (아직 복제되지 않음)
+        User teacher = userRepository.save(teacher("ryw"));
+        Roll roll = rollRepository.save(Roll.builder()
+                .rollName("방금 쓴 롤")
+                .classCode(1234)
+                .url("routing-url" + System.nanoTime())
+                .user(teacher)
+                .build());
+        paperRepository.save(Paper.createTeacherPaper(new PaperRequestDTO("방금 쓴 글"), teacher, roll));
+        Supplier<List<PaperResponseDTO>> papers = () ->
+                paperRepository.findResponsesByRollId(roll.getId(), PaperCursor.FIRST, PageRequest.of(0, 10));
+
+        // WHEN & THEN
+        assertThat(readYourWrites.readRoll(roll.getId(), papers)).isEmpty();
+
+        readYourWrites.rollWritten(roll.getId());
+        assertThat(readYourWrites.readRoll(roll.getId(), papers)).extracting(PaperResponseDTO::getContent)
+                .containsExactly("방금 쓴 글");
+        verify(valueOperations).set("rw:roll:" + roll.getId(), "1", Duration.ofSeconds(3));
+
+        // 다른 노드 : 로컬 기록은 없지만 Redis에 기록이 있으면 primary
+        ReadYourWrites otherNode = new ReadYourWrites(stringRedisTemplate, REPLICA_URL, Duration.ofSeconds(3));
+        given(stringRedisTemplate.hasKey("rw:roll:" + roll.getId())).willReturn(true);
+        assertThat(otherNode.readRoll(roll.getId(), papers)).hasSize(1);
+    }
+
+    private User teacher(String name) {
+        return User.builder()
+                .username("naver " + name + System.nanoTime())
+                .name("선생님")
+                .role(Role.TEACHER)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.sparklenote.common.support;
+
+import com.sparklenote.common.config.TransactionConfig;
+import com.sparklenote.common.datasource.ReadYourWrites;
+import com.sparklenote.domain.entity.Roll;
+import com.sparklenote.domain.entity.Student;
+import com.sparklenote.domain.entity.User;
+import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.domain.repository.PaperChangeRepository;
+import com.sparklenote.domain.repository.PaperRepository;
+import com.sparklenote.domain.repository.RollRepository;
+import com.sparklenote.domain.repository.StickerRepository;
+import com.sparklenote.domain.repository.StudentRepository;
+import com.sparklenote.domain.repository.UserRepository;
+import com.sparklenote.paper.cache.PaperListCache;
+import com.sparklenote.paper.event.PaperEventPublisher;
+import com.sparklenote.paper.event.PaperEventSequence;
+import com.sparklenote.paper.ingest.PaperIdAllocator;
+import com.sparklenote.paper.ingest.PaperIngestQueue;
+import com.sparklenote.paper.service.PaperChangeService;
+import com.sparklenote.paper.service.PaperService;
+import com.sparklenote.roll.dto.request.RollJoinRequestDto;
+import com.sparklenote.roll.service.RollService;
+import com.sparklenote.roll.util.UrlGenerator;
+import com.sparklenote.student.dto.response.StudentResponseDTO;
+import com.sparklenote.student.service.StudentService;
+import com.sparklenote.student.userDetails.CustomStudentDetails;
+import com.sparklenote.user.dto.response.UserResponseDTO;
+import com.sparklenote.user.jwt.JWTUtil;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore;
+import com.sparklenote.user.oAuth2.CustomOAuth2User;
+import com.sparklenote.user.service.UserReferenceResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * roll, paper, 학생 서비스를 실제 JPA(H2)로 실행하는 테스트의 공통 설정
+ * @memo : Redis, 토큰 발급 등 외부 의존만 MockBean으로 두고 서비스, 트랜잭션 설정은 실제 빈 사용 (같은 설정의 테스트끼리 컨텍스트 재사용)
+ * @memo : 서비스가 직접 트랜잭션을 열고 커밋하는지 확인해야 하므로 테스트 트랜잭션 없이 실행하고, roll 단위 일괄 DELETE로 정리
+ * @memo : 선생님, roll, 기존 학생(pin 1234)을 만들어 두고, 각 테스트는 필요한 paper만 추가
+ */
+@DataJpaTest(properties = "jwt.accessExpiration=1800000")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RollService.class, PaperService.class, StudentService.class, PaperChangeService.class, PaperListCache.class,
+        UserReferenceResolver.class, ReadYourWrites.class, TransactionConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class ServiceJpaTestSupport {
+
+    protected static final String PIN = "1234";
+
+    @MockBean
+    protected UrlGenerator urlGenerator;
+    @MockBean
+    protected PaperEventSequence paperEventSequence;
+    @MockBean
+    protected PaperEventPublisher paperEventPublisher;
+    @MockBean
+    protected PaperIngestQueue paperIngestQueue;
+    @MockBean
+    protected PaperIdAllocator paperIdAllocator;
+    @MockBean
+    protected JWTUtil jwtUtil;
+    @MockBean
+    protected RefreshTokenFamilyStore refreshTokenFamilyStore;
+    @MockBean
+    protected StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    protected RollService rollService;
+    @Autowired
+    protected PaperService paperService;
+
+    @Autowired
+    protected UserRepository userRepository;
+    @Autowired
+    protected RollRepository rollRepository;
+    @Autowired
+    protected StudentRepository studentRepository;
+    @Autowired
+    protected PaperRepository paperRepository;
+    @Autowired
+    protected StickerRepository stickerRepository;
+    @Autowired
+    protected PaperChangeRepository paperChangeRepository;
+
+    protected User teacher;
+    protected Roll roll;
+    protected Student student;
+
+    @BeforeEach
+    void setUpRoll() {
+        teacher = userRepository.save(User.builder()
+                .username("naver service-teacher" + System.nanoTime())
+                .name("선생님")
+                .role(Role.TEACHER)
+                .build());
+        roll = rollRepository.save(Roll.builder()
+                .rollName("서비스 테스트 롤")
+                .classCode(1234)
+                .url("service-url" + System.nanoTime())
+                .user(teacher)
+                .build());
+        student = studentRepository.save(Student.builder()
+                .name("기존 학생")
+                .pinNumber(PIN)
+                .roll(roll)
+                .role(Role.STUDENT)
+                .build());
+
+        given(jwtUtil.createAccessToken(anyString(), anyString(), any(Role.class), any())).willReturn("access");
+        given(refreshTokenFamilyStore.issue(any(), anyString(), anyString(), any(Role.class))).willReturn("refresh");
+    }
+
+    // roll 삭제와 같은 순서로 roll에 속한 행만 삭제 (다른 테스트의 데이터는 건드리지 않음)
+    @AfterEach
+    void cleanUpRoll() {
+        SecurityContextHolder.clearContext();
+        stickerRepository.bulkDeleteByRollId(roll.getId());
+        paperRepository.bulkDeleteByRollId(roll.getId());
+        studentRepository.bulkDeleteByRollId(roll.getId());
+        rollRepository.bulkDeleteById(roll.getId());
+        paperChangeRepository.bulkDeleteByRollId(roll.getId());
+        userRepository.delete(teacher);
+    }
+
+    protected RollJoinRequestDto join(String name) {
+        return RollJoinRequestDto.builder()
+                .name(name)
+                .classCode(1234)
+                .pinNumber(PIN)
+                .build();
+    }
+
+    // uid가 있는 선생님 토큰 (User 조회 없음)
+    protected void loginAsTeacher() {
+        CustomOAuth2User principal = new CustomOAuth2User(UserResponseDTO.builder()
+                .userId(teacher.getId())
+                .username(teacher.getUsername())
+                .name(teacher.getName())
+                .role(Role.TEACHER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    protected void loginAsStudent() {
+        CustomStudentDetails principal = new CustomStudentDetails(StudentResponseDTO.builder()
+                .studentId(student.getId())
+                .name(student.getName())
+                .password(student.getPinNumber())
+                .role(Role.STUDENT)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,216 @@
+package com.sparklenote.common.transaction;
+
+import com.sparklenote.common.support.ServiceJpaTestSupport;
+import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.paper.dto.request.PaperRequestDTO;
+import com.sparklenote.paper.service.PaperService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 서비스 메소드의 커넥션 사용 검증 (H2)
+ * @memo : 요청 하나가 pool에서 커넥션을 몇 번 꺼내는지, 동시에 몇 개를 잡는지 DataSource를 감싸서 셈
+ * @memo : 서비스가 직접 트랜잭션을 여는지 확인해야 하므로 테스트 트랜잭션 없이 실행 (ServiceJpaTestSupport)
+ * @memo : paper 생성/수정/삭제는 커넥션을 두 번 꺼냄 (변경 로그의 version은 커밋 후 발급되는 이벤트 id라 쓰기 트랜잭션 안에서 기록할 수 없음)
+ */
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@Import({TransactionMetricsListener.class, ConnectionCheckoutTest.CountingConfig.class})
+class ConnectionCheckoutTest extends ServiceJpaTestSupport {
+
+    @Autowired
+    private CountingDataSource dataSource;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Paper paper;
+
+    @BeforeEach
+    void setUp() {
+        paper = paperRepository.save(Paper.createTeacherPaper(new PaperRequestDTO("처음 내용"), teacher, roll));
+        loginAsTeacher();
+        dataSource.reset();
+    }
+
+    @Test
+    @DisplayName("기존 학생 입장은 roll, 학생 조회를 커넥션 하나로 처리한다")
+    void joinRoll_returningStudent() {
+        // WHEN
+        rollService.joinRoll(roll.getUrl(), join("기존 학생"), false);
+
+        // THEN
+        assertThat(dataSource.checkouts()).isEqualTo(1);
+        assertThat(dataSource.peak()).isEqualTo(1);
+        assertThat(meterRegistry.find("transaction").tag("read-only", "true").tag("outcome", "commit").timer())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("신규 학생 등록은 조회 트랜잭션이 끝난 뒤 저장해서 커넥션을 동시에 두 개 잡지 않는다")
+    void joinRoll_newStudent() {
+        // WHEN
+        rollService.joinRoll(roll.getUrl(), join("새 학생"), false);
+
+        // THEN : 조회 1 + 저장 1
+        assertThat(dataSource.checkouts()).isEqualTo(2);
+        assertThat(dataSource.peak()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("내 roll 목록 조회는 커넥션 하나, paper 목록은 캐시 hit이면 커넥션을 쓰지 않는다")
+    void reads() {
+        // WHEN & THEN
+        assertThat(rollService.getMyRolls()).hasSize(1);
+        assertThat(dataSource.checkouts()).isEqualTo(1);
+
+        dataSource.reset();
+        paperService.getPapers(roll.getId(), null, PaperService.DEFAULT_PAGE_SIZE);
+        assertThat(dataSource.checkouts()).isEqualTo(1);
+
+        dataSource.reset();
+        paperService.getPapers(roll.getId(), null, PaperService.DEFAULT_PAGE_SIZE);
+        assertThat(dataSource.checkouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("paper 수정은 조회와 UPDATE를 커넥션 하나로 처리하고, 변경 로그는 커밋 후 따로 기록한다")
+    void updatePaper() {
+        // GIVEN
+        given(paperEventPublisher.publish(eq(roll.getId()), eq("update"), any())).willReturn(7L);
+
+        // WHEN
+        paperService.updatePaper(paper.getId(), new PaperRequestDTO("수정된 내용"));
+
+        // THEN : 수정 1 + 변경 로그 1, 동시에 잡는 커넥션은 하나
+        assertThat(dataSource.checkouts()).isEqualTo(2);
+        assertThat(dataSource.peak()).isEqualTo(1);
+        assertThat(paperRepository.findById(paper.getId())).get()
+                .extracting(Paper::getContent)
+                .isEqualTo("수정된 내용");
+    }
+
+    @Test
+    @DisplayName("paper 삭제도 조회와 DELETE를 커넥션 하나로 처리하고, 변경 로그는 커밋 후 따로 기록한다")
+    void deletePaper() {
+        // GIVEN
+        given(paperEventPublisher.publish(eq(roll.getId()), eq("delete"), any())).willReturn(8L);
+
+        // WHEN
+        paperService.deletePaper(paper.getId());
+
+        // THEN : 삭제 1 + 변경 로그 1, 동시에 잡는 커넥션은 하나
+        assertThat(dataSource.checkouts()).isEqualTo(2);
+        assertThat(dataSource.peak()).isEqualTo(1);
+        assertThat(paperRepository.findById(paper.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("paper 생성은 roll 조회와 INSERT를 커넥션 하나로 처리하고, 변경 로그는 커밋 후 따로 기록한다")
+    void createPaper() {
+        // GIVEN
+        given(paperEventPublisher.publish(eq(roll.getId()), eq("create"), any())).willReturn(9L);
+
+        // WHEN
+        paperService.createPaper(roll.getId(), new PaperRequestDTO("새 글"));
+
+        // THEN : INSERT 1 + 변경 로그 1, 동시에 잡는 커넥션은 하나
+        assertThat(dataSource.checkouts()).isEqualTo(2);
+        assertThat(dataSource.peak()).isEqualTo(1);
+        assertThat(paperRepository.findByRoll_Id(roll.getId())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("이벤트 id가 발급되지 않으면(Redis 장애) 변경 로그 없이 커넥션 하나로 끝난다")
+    void createPaper_withoutEventId() {
+        // GIVEN
+        given(paperEventPublisher.publish(eq(roll.getId()), eq("create"), any())).willReturn(null);
+
+        // WHEN
+        paperService.createPaper(roll.getId(), new PaperRequestDTO("새 글"));
+
+        // THEN
+        assertThat(dataSource.checkouts()).isEqualTo(1);
+        assertThat(dataSource.peak()).isEqualTo(1);
+    }
+
+    @TestConfiguration
+    static class CountingConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)
+                            ? new CountingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * pool에서 꺼낸 횟수와 동시에 사용 중인 커넥션 수의 최댓값을 기록
+     */
+    static class CountingDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger checkouts = new AtomicInteger();
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            checkouts.incrementAndGet();
+            peak.accumulateAndGet(open.incrementAndGet(), Math::max);
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close") && !connection.isClosed()) {
+                            open.decrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (java.lang.reflect.InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+
+        void reset() {
+            checkouts.set(0);
+            peak.set(open.get());
+        }
+
+        int checkouts() {
+            return checkouts.get();
+        }
+
+        int peak() {
+            return peak.get();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sparklenote.domain.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate가 실행하는 SQL을 기록하는 테스트용 StatementInspector (application-test.yml에서 등록)
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    public static String last() {
+        return statements.get(statements.size() - 1);
+    }
+}
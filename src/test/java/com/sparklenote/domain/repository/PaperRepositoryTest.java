@@ -0,0 +1,182 @@
+package com.sparklenote.domain.repository;
+
+import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.domain.entity.Roll;
+import com.sparklenote.domain.entity.Student;
+import com.sparklenote.domain.entity.User;
+import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.paper.dto.request.PaperCursor;
+import com.sparklenote.paper.dto.request.PaperRequestDTO;
+import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PaperRepositoryTest {
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("paper 목록 조회 - 작성자 정보까지 한 번의 쿼리로 조회")
+    void findResponsesByRollId_mapsAuthor() {
+        // GIVEN
+        Roll roll = createRoll();
+        Student student = createStudent(roll, "학생");
+        testEntityManager.persist(Paper.createStudentPaper(new PaperRequestDTO("학생 글"), student, roll));
+        testEntityManager.persist(Paper.createTeacherPaper(new PaperRequestDTO("선생님 글"), roll.getUser(), roll));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // WHEN
+        List<PaperResponseDTO> papers = paperRepository.findResponsesByRollId(roll.getId(), PaperCursor.FIRST, PageRequest.of(0, 100));
+
+        // THEN
+        assertThat(papers).hasSize(2);
+        assertThat(papers.get(0).getStudentId()).isEqualTo(student.getId());
+        assertThat(papers.get(0).getAuthorName()).isEqualTo("학생");
+        assertThat(papers.get(0).getAuthorRole()).isEqualTo("STUDENT");
+        assertThat(papers.get(1).getStudentId()).isNull();
+        assertThat(papers.get(1).getAuthorName()).isEqualTo("선생님");
+        assertThat(papers.get(1).getAuthorRole()).isEqualTo("TEACHER");
+    }
+
+    @Test
+    @DisplayName("paper 목록 조회 - paper 수가 늘어나도 쿼리 수는 1번으로 고정")
+    void findResponsesByRollId_constantStatementCount() {
+        // GIVEN
+        Roll small = createRollWithPapers(3);
+        Roll large = createRollWithPapers(30);
+        testEntityManager.clear();
+
+        // WHEN
+        statistics.clear();
+        List<PaperResponseDTO> smallPapers = paperRepository.findResponsesByRollId(small.getId(), PaperCursor.FIRST, PageRequest.of(0, 100));
+        long smallCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<PaperResponseDTO> largePapers = paperRepository.findResponsesByRollId(large.getId(), PaperCursor.FIRST, PageRequest.of(0, 100));
+        long largeCount = statistics.getPrepareStatementCount();
+
+        // THEN
+        assertThat(smallPapers).hasSize(3);
+        assertThat(largePapers).hasSize(30);
+        assertThat(smallCount).isEqualTo(1);
+        assertThat(largeCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("paper 목록 조회 - 커서 이후의 paper만 (생성 시각, id) 순으로 조회")
+    void findResponsesByRollId_keyset() {
+        // GIVEN
+        Roll roll = createRollWithPapers(5);
+        testEntityManager.clear();
+        List<PaperResponseDTO> all = paperRepository.findResponsesByRollId(roll.getId(), PaperCursor.FIRST, PageRequest.of(0, 100));
+
+        // WHEN
+        List<PaperResponseDTO> firstPage = paperRepository.findResponsesByRollId(roll.getId(), PaperCursor.FIRST, PageRequest.of(0, 2));
+        List<PaperResponseDTO> secondPage = paperRepository.findResponsesByRollId(
+                roll.getId(), cursorOf(firstPage.get(1)), PageRequest.of(0, 2));
+
+        // THEN
+        assertThat(firstPage).extracting(PaperResponseDTO::getPaperId)
+                .containsExactly(all.get(0).getPaperId(), all.get(1).getPaperId());
+        assertThat(secondPage).extracting(PaperResponseDTO::getPaperId)
+                .containsExactly(all.get(2).getPaperId(), all.get(3).getPaperId());
+    }
+
+    @Test
+    @DisplayName("paper 목록 조회 - id가 더 크지만 먼저 생성된 paper(다른 노드의 id 블록)도 건너뛰지 않음")
+    void findResponsesByRollId_idNotOrdered() {
+        // GIVEN : 작은 id의 paper가 나중에 생성됨
+        Roll roll = createRollWithPapers(2);
+        List<Paper> papers = paperRepository.findByRoll_Id(roll.getId());
+        Paper lowerId = papers.get(0).getId() < papers.get(1).getId() ? papers.get(0) : papers.get(1);
+        Paper higherId = lowerId == papers.get(0) ? papers.get(1) : papers.get(0);
+        LocalDateTime now = LocalDateTime.of(2024, 3, 2, 9, 0, 0, 123_456_000);
+        setCreatedAt(higherId, now);
+        setCreatedAt(lowerId, now.plusSeconds(1));
+        testEntityManager.clear();
+
+        // WHEN : 한 건씩 조회
+        List<PaperResponseDTO> firstPage = paperRepository.findResponsesByRollId(roll.getId(), PaperCursor.FIRST, PageRequest.of(0, 1));
+        List<PaperResponseDTO> secondPage = paperRepository.findResponsesByRollId(
+                roll.getId(), PaperCursor.parse(cursorOf(firstPage.get(0)).toString()), PageRequest.of(0, 1));
+
+        // THEN : 생성 순서대로 두 paper 모두 조회
+        assertThat(firstPage).extracting(PaperResponseDTO::getPaperId).containsExactly(higherId.getId());
+        assertThat(secondPage).extracting(PaperResponseDTO::getPaperId).containsExactly(lowerId.getId());
+    }
+
+    private PaperCursor cursorOf(PaperResponseDTO paper) {
+        return new PaperCursor(paper.getCreatedAt(), paper.getPaperId());
+    }
+
+    private void setCreatedAt(Paper paper, LocalDateTime createdAt) {
+        testEntityManager.getEntityManager()
+                .createNativeQuery("update Paper set created_at = :createdAt where paper_id = :paperId")
+                .setParameter("createdAt", createdAt)
+                .setParameter("paperId", paper.getId())
+                .executeUpdate();
+    }
+
+    private Roll createRollWithPapers(int paperCount) {
+        Roll roll = createRoll();
+        for (int i = 0; i < paperCount; i++) {
+            Student student = createStudent(roll, "학생" + i);
+            testEntityManager.persist(Paper.createStudentPaper(new PaperRequestDTO("내용" + i), student, roll));
+        }
+        testEntityManager.flush();
+        return roll;
+    }
+
+    private Roll createRoll() {
+        User teacher = testEntityManager.persist(User.builder()
+                .username("naver teacher" + System.nanoTime())
+                .name("선생님")
+                .role(Role.TEACHER)
+                .build());
+        return testEntityManager.persist(Roll.builder()
+                .rollName("테스트용 롤")
+                .classCode(1234)
+                .url("url" + System.nanoTime())
+                .user(teacher)
+                .build());
+    }
+
+    private Student createStudent(Roll roll, String name) {
+        return testEntityManager.persist(Student.builder()
+                .name(name)
+                .pinNumber("1234")
+                .role(Role.STUDENT)
+                .roll(roll)
+                .build());
+    }
+}
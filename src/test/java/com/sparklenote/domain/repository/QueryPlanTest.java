@@ -0,0 +1,158 @@
+package com.sparklenote.domain.repository;
+
+import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.domain.entity.Roll;
+import com.sparklenote.domain.entity.Student;
+import com.sparklenote.domain.entity.User;
+import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.paper.dto.request.PaperCursor;
+import com.sparklenote.paper.dto.request.PaperRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 조회 쿼리의 실행 계획 검증
+ * @memo : Hibernate가 만든 SQL을 그대로 EXPLAIN해서 전체 테이블 스캔(tableScan)이 없는지 확인
+ * @memo : 테이블이 커져도 학생 입장/로그인 조회 시간이 일정하도록 인덱스를 타는지 보장하기 위한 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanTest {
+
+    @Autowired
+    private RollRepository rollRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private PaperChangeRepository paperChangeRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private User teacher;
+    private Roll roll;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        teacher = testEntityManager.persist(User.builder()
+                .username("naver plan-teacher")
+                .name("선생님")
+                .role(Role.TEACHER)
+                .build());
+        roll = testEntityManager.persist(Roll.builder()
+                .rollName("테스트용 롤")
+                .classCode(1234)
+                .url("plan-url")
+                .user(teacher)
+                .build());
+        student = testEntityManager.persist(Student.builder()
+                .name("학생")
+                .pinNumber("1234")
+                .role(Role.STUDENT)
+                .roll(roll)
+                .build());
+        testEntityManager.persist(Paper.createStudentPaper(new PaperRequestDTO("내용"), student, roll));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("RollRepository.findByUrl / existsByUrl - url 인덱스 사용")
+    void roll_findByUrl() {
+        rollRepository.findByUrl("plan-url");
+        assertNoTableScan("plan-url");
+
+        rollRepository.existsByUrl("plan-url");
+        assertNoTableScan("plan-url");
+    }
+
+    @Test
+    @DisplayName("RollRepository.findAllByUser - user_id 인덱스 사용")
+    void roll_findAllByUser() {
+        rollRepository.findAllByUser(teacher);
+        assertNoTableScan(teacher.getId());
+    }
+
+    @Test
+    @DisplayName("UserRepository.findByUsername - username 인덱스 사용")
+    void user_findByUsername() {
+        userRepository.findByUsername("naver plan-teacher");
+        assertNoTableScan("naver plan-teacher");
+    }
+
+    @Test
+    @DisplayName("StudentRepository.findByNameAndPinNumberAndRollId - (roll_id, name, pin_number) 인덱스 사용")
+    void student_findByNameAndPinNumberAndRollId() {
+        studentRepository.findByNameAndPinNumberAndRollId("학생", "1234", roll.getId());
+        assertNoTableScan("학생", "1234", roll.getId());
+    }
+
+    @Test
+    @DisplayName("PaperRepository.findByRoll_Id / findResponsesByRollId - roll_id, (roll_id, created_at, paper_id) 인덱스 사용")
+    void paper_findByRollId() {
+        paperRepository.findByRoll_Id(roll.getId());
+        assertNoTableScan(roll.getId());
+
+        paperRepository.findResponsesByRollId(roll.getId(), PaperCursor.FIRST, PageRequest.of(0, 50));
+        Timestamp first = Timestamp.valueOf(PaperCursor.FIRST.createdAt());
+        assertNoTableScan(roll.getId(), first, first, PaperCursor.FIRST.paperId(), 50);
+    }
+
+    @Test
+    @DisplayName("PaperChangeRepository.findByRollIdAndVersionGreaterThanOrderByVersion - (roll_id, version) 인덱스 사용")
+    void paperChange_findByRollIdAndVersionGreaterThan() {
+        paperChangeRepository.findByRollIdAndVersionGreaterThanOrderByVersion(roll.getId(), 0L, PageRequest.of(0, 500));
+        assertNoTableScan(roll.getId(), 0L, 500);
+    }
+
+    /**
+     * 마지막으로 실행된 SQL을 EXPLAIN
+     * @param args SQL의 파라미터 순서대로 바인딩할 값 (남는 파라미터는 1로 채움, limit 등)
+     */
+    private void assertNoTableScan(Object... args) {
+        String sql = CapturingStatementInspector.last();
+        String plan = new JdbcTemplate(dataSource).execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 0; i < parameterCount; i++) {
+                    statement.setObject(i + 1, i < args.length ? args[i] : 1);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+        assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+    }
+}
@@ -0,0 +1,154 @@
+package com.sparklenote.domain.repository;
+
+import com.sparklenote.common.support.ServiceJpaTestSupport;
+import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.domain.entity.Sticker;
+import com.sparklenote.paper.dto.request.PaperRequestDTO;
+import com.sparklenote.paper.service.PaperService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 서비스 메소드(엔드포인트)별 실행 SQL 수 검증 (Hibernate Statistics)
+ * @memo : 연관관계가 LAZY인지, 필요한 곳만 엔티티 그래프로 함께 조회하는지 확인 -> 연관 엔티티 추가 조회(N+1)가 생기면 실패
+ * @memo : 서비스가 직접 트랜잭션을 열고 커밋해야 UPDATE/DELETE까지 세어지므로 테스트 트랜잭션 없이 실행 (ServiceJpaTestSupport)
+ * @memo : paper 변경은 이벤트 id가 발급된 정상 경로로 세므로 커밋 후 기록하는 변경 로그 INSERT 1건이 포함됨
+ */
+class StatementCountTest extends ServiceJpaTestSupport {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Paper studentPaper;
+    private Paper teacherPaper;
+
+    @BeforeEach
+    void setUp() {
+        studentPaper = paperRepository.save(Paper.createStudentPaper(new PaperRequestDTO("학생 글"), student, roll));
+        teacherPaper = paperRepository.save(Paper.createTeacherPaper(new PaperRequestDTO("선생님 글"), teacher, roll));
+
+        given(paperEventPublisher.publish(any(), anyString(), any())).willReturn(7L);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("학생 입장 : roll, 학생 조회 2건 (roll의 선생님, 학생의 roll은 조회하지 않음)")
+    void joinRoll() {
+        // WHEN
+        rollService.joinRoll(roll.getUrl(), join("기존 학생"), false);
+
+        // THEN
+        assertStatements(2, 2);
+    }
+
+    @Test
+    @DisplayName("내 roll 목록 : roll 조회 1건 (선생님은 토큰의 id로 참조만 사용)")
+    void getMyRolls() {
+        // GIVEN
+        loginAsTeacher();
+
+        // WHEN
+        assertThat(rollService.getMyRolls()).hasSize(1);
+
+        // THEN
+        assertStatements(1, 1);
+    }
+
+    @Test
+    @DisplayName("paper 목록 : DTO 조인 조회 1건 (엔티티를 만들지 않음)")
+    void getPapers() {
+        // WHEN
+        assertThat(paperService.getPapers(roll.getId(), null, PaperService.DEFAULT_PAGE_SIZE).getPapers()).hasSize(2);
+
+        // THEN
+        assertStatements(1, 0);
+    }
+
+    @Test
+    @DisplayName("학생의 paper 수정 : 작성자와 함께 조회 1건 + UPDATE 1건 + 변경 로그 INSERT 1건")
+    void updatePaper() {
+        // GIVEN
+        loginAsStudent();
+
+        // WHEN
+        paperService.updatePaper(studentPaper.getId(), new PaperRequestDTO("수정된 내용"));
+
+        // THEN
+        assertStatements(3, 2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("선생님의 paper 삭제 : 작성자와 함께 조회 1건 + DELETE 1건 + 변경 로그 INSERT 1건")
+    void deletePaper() {
+        // GIVEN
+        loginAsTeacher();
+
+        // WHEN
+        paperService.deletePaper(teacherPaper.getId());
+
+        // THEN
+        assertStatements(3, 2);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("학생의 paper 작성 : 학생만 조회하고 roll은 참조만 사용")
+    void createPaper() {
+        // GIVEN
+        loginAsStudent();
+
+        // WHEN
+        paperService.createPaper(roll.getId(), new PaperRequestDTO("새 글"));
+
+        // THEN : id 블록 조회(50건마다)가 끼어들 수 있으므로 SQL 수 대신 조회/INSERT한 엔티티 수로 확인
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2); // paper + 변경 로그
+    }
+
+    @Test
+    @DisplayName("roll 삭제 : roll 조회 1건 + sticker, paper, 학생, roll, 변경 로그 DELETE 각 1건 (자식 엔티티를 조회하지 않음)")
+    void deleteRoll() {
+        // GIVEN
+        stickerRepository.save(Sticker.builder()
+                .stickerName("하트")
+                .paper(studentPaper)
+                .build());
+        statistics.clear();
+        loginAsTeacher();
+
+        // WHEN
+        rollService.deleteRoll(roll.getId());
+
+        // THEN : paper 수와 관계없이 SQL 6건, 선생님이 쓴 paper까지 삭제
+        assertStatements(6, 1);
+        assertThat(rollRepository.findById(roll.getId())).isEmpty();
+        assertThat(paperRepository.findByRoll_Id(roll.getId())).isEmpty();
+        assertThat(studentRepository.findById(student.getId())).isEmpty();
+        assertThat(stickerRepository.count()).isZero();
+    }
+
+    /**
+     * @param statements 실행한 SQL 수
+     * @param loads      조회한 엔티티 수 (연관 엔티티가 함께 조회되면 늘어남)
+     */
+    private void assertStatements(long statements, long loads) {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loads);
+        assertThat(statistics.getEntityFetchCount()).isZero(); // LAZY 프록시 초기화로 인한 추가 조회
+    }
+}
@@ -1,36 +1,60 @@
 package com.sparklenote.paper;
 
 
+import com.sparklenote.common.datasource.ReadYourWrites;
+import com.sparklenote.common.error.code.PaperErrorCode;
 import com.sparklenote.common.exception.PaperException;
 import com.sparklenote.common.exception.RollException;
 import com.sparklenote.common.exception.UserException;
 import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.domain.entity.PaperChange;
 import com.sparklenote.domain.entity.Roll;
+import com.sparklenote.domain.entity.Student;
 import com.sparklenote.domain.entity.User;
 import com.sparklenote.domain.repository.PaperRepository;
 import com.sparklenote.domain.repository.RollRepository;
 import com.sparklenote.domain.repository.StudentRepository;
 import com.sparklenote.domain.repository.UserRepository;
+import com.sparklenote.paper.cache.PaperListCache;
+import com.sparklenote.paper.dto.request.PaperCursor;
 import com.sparklenote.paper.dto.request.PaperRequestDTO;
+import com.sparklenote.paper.dto.response.PaperPageDTO;
 import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import com.sparklenote.paper.event.PaperEventPublisher;
+import com.sparklenote.paper.ingest.PaperIdAllocator;
+import com.sparklenote.paper.ingest.PaperIngestQueue;
+import com.sparklenote.paper.service.PaperChangeService;
 import com.sparklenote.paper.service.PaperService;
 import com.sparklenote.student.userDetails.CustomStudentDetails;
 import com.sparklenote.user.oAuth2.CustomOAuth2User;
+import com.sparklenote.user.service.UserReferenceResolver;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,15 +73,42 @@ public class PaperServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PaperEventPublisher paperEventPublisher;
+
+    @Mock
+    private PaperChangeService paperChangeService;
+
+    @Mock
+    private PaperIngestQueue paperIngestQueue;
+
+    @Mock
+    private PaperIdAllocator paperIdAllocator;
+
+    // replica 없음 (조회는 항상 그대로 실행)
+    @Spy
+    private ReadYourWrites readYourWrites = new ReadYourWrites(null, "", Duration.ofSeconds(3));
+
+    // 트랜잭션 없이 콜백만 실행
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private PaperListCache paperListCache = new PaperListCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
     @InjectMocks
     private PaperService paperService;
 
     private Authentication authentication;
     private SecurityContext securityContext;
+    private CustomOAuth2User teacher;
 
+    // uid 없이 발급된 이전 토큰 (username으로 User id 조회)
     private void setUpTeacherAuthentication() {
-        CustomOAuth2User teacher = mock(CustomOAuth2User.class);
-        when(teacher.getUsername()).thenReturn("teacher@test.com");
+        teacher = mock(CustomOAuth2User.class);
+        lenient().when(teacher.getUsername()).thenReturn("teacher@test.com");
+        lenient().when(teacher.getName()).thenReturn(TEST_USER_NAME);
+        lenient().when(teacher.getUserId()).thenReturn(null);
 
         authentication = mock(Authentication.class);
         when(authentication.getPrincipal()).thenReturn(teacher);
@@ -69,7 +120,8 @@ public class PaperServiceTest {
 
     private void setUpStudentAuthentication() {
         CustomStudentDetails studentDetails = mock(CustomStudentDetails.class);
-        when(studentDetails.getUsername()).thenReturn("student");
+        lenient().when(studentDetails.getUsername()).thenReturn("student");
+        lenient().when(studentDetails.getStudentId()).thenReturn(TEST_STUDENT_ID);
 
         authentication = mock(Authentication.class);
         when(authentication.getPrincipal()).thenReturn(studentDetails);
@@ -83,6 +135,7 @@ public class PaperServiceTest {
     void setUp() {
         securityContext = mock(SecurityContext.class);
         SecurityContextHolder.setContext(securityContext);
+        ReflectionTestUtils.setField(paperService, "userReferenceResolver", new UserReferenceResolver(userRepository));
     }
 
     @AfterEach
@@ -133,6 +186,9 @@ public class PaperServiceTest {
         when(userRepository.findByUsername(TEST_USER_USERNAME))
                 .thenReturn(Optional.of(teacher));
 
+        when(userRepository.getReferenceById(TEST_USER_ID))
+                .thenReturn(teacher);
+
         when(rollRepository.findById(TEST_ROLL_ID))
                 .thenReturn(Optional.of(roll));
 
@@ -153,6 +209,41 @@ public class PaperServiceTest {
         verify(userRepository).findByUsername(TEST_USER_USERNAME);
         verify(rollRepository).findById(TEST_ROLL_ID);
         verify(paperRepository).save(any(Paper.class));
+        verify(paperListCache).evict(TEST_ROLL_ID);
+    }
+
+    @Test
+    @DisplayName("선생님이 페이퍼 작성 - write-behind 모드면 저장 없이 큐에 넣고 미리 받은 id로 응답")
+    void createPaper_writeBehind() {
+        //given
+        setUpTeacherAuthentication();
+        lenient().when(teacher.getUserId()).thenReturn(TEST_USER_ID);
+
+        User teacher = User.builder()
+                .id(TEST_USER_ID)
+                .name(TEST_USER_NAME)
+                .build();
+        Roll roll = Roll.builder()
+                .id(TEST_ROLL_ID)
+                .build();
+
+        when(userRepository.getReferenceById(TEST_USER_ID)).thenReturn(teacher);
+        when(rollRepository.findById(TEST_ROLL_ID)).thenReturn(Optional.of(roll));
+        when(paperIngestQueue.isEnabled()).thenReturn(true);
+        when(paperIdAllocator.next()).thenReturn(501L);
+
+        //when
+        PaperResponseDTO response = paperService.createPaper(TEST_ROLL_ID, createTestPaperRequestDTO());
+
+        //then
+        assertThat(response.getPaperId()).isEqualTo(501L);
+        assertThat(response.getAuthorRole()).isEqualTo("TEACHER");
+        verify(paperIngestQueue).enqueue(argThat(record -> record.paperId().equals(501L)
+                && record.rollId().equals(TEST_ROLL_ID)
+                && record.userId().equals(TEST_USER_ID)
+                && record.createdBy() == Paper.CreatedBy.USER));
+        verify(paperRepository, never()).save(any(Paper.class));
+        verify(paperEventPublisher, never()).publish(any(), any(), any());
     }
 
     @Test
@@ -222,10 +313,15 @@ public class PaperServiceTest {
                 .name(TEST_USER_NAME)
                 .build();
 
+        Roll roll = Roll.builder()
+                .id(TEST_ROLL_ID)
+                .build();
+
         Paper paper = Paper.builder()
                 .id(TEST_PAPER_ID)
                 .content("원래 내용")
                 .user(teacher)
+                .roll(roll)
                 .createdBy(Paper.CreatedBy.USER)
                 .build();
 
@@ -234,18 +330,17 @@ public class PaperServiceTest {
         //mock
         when(userRepository.findByUsername(TEST_USER_USERNAME))
                 .thenReturn(Optional.of(teacher));
-        when(paperRepository.findById(TEST_PAPER_ID))
+        when(paperRepository.findWithAuthorById(TEST_PAPER_ID))
                 .thenReturn(Optional.of(paper));
-        when(paperRepository.save(any(Paper.class)))
-                .thenReturn(paper);
 
         //when
         PaperResponseDTO response = paperService.updatePaper(TEST_PAPER_ID, request);
 
         assertThat(response.getContent()).isEqualTo(TEST_CONTENT);
+        assertThat(paper.getContent()).isEqualTo(TEST_CONTENT); // 커밋 시 변경 감지로 UPDATE
 
-        verify(paperRepository).findById(TEST_PAPER_ID);
-        verify(paperRepository).save(any(Paper.class));
+        verify(paperRepository).findWithAuthorById(TEST_PAPER_ID);
+        verify(paperRepository, never()).save(any(Paper.class));
     }
 
     @Test
@@ -268,7 +363,7 @@ public class PaperServiceTest {
                 .thenReturn(Optional.of(teacher));
 
         // 페이퍼가 존재하지 않는 상황 설정
-        when(paperRepository.findById(TEST_PAPER_ID))
+        when(paperRepository.findWithAuthorById(TEST_PAPER_ID))
                 .thenReturn(Optional.empty());
 
         // when & then
@@ -278,7 +373,7 @@ public class PaperServiceTest {
 
         // verify: 선생님 정보는 정상적으로 조회되었지만, 페이퍼 저장 로직은 호출되지 않음
         verify(userRepository).findByUsername(TEST_USER_USERNAME);
-        verify(paperRepository).findById(TEST_PAPER_ID);
+        verify(paperRepository).findWithAuthorById(TEST_PAPER_ID);
         verify(paperRepository, never()).save(any(Paper.class));
     }
 
@@ -294,25 +389,178 @@ public class PaperServiceTest {
                 .name(TEST_USER_NAME)
                 .build();
 
+        Roll roll = Roll.builder()
+                .id(TEST_ROLL_ID)
+                .build();
+
         Paper paper = Paper.builder()
                 .id(TEST_PAPER_ID)
                 .content(TEST_CONTENT)
                 .user(teacher)
+                .roll(roll)
                 .createdBy(Paper.CreatedBy.USER)
                 .build();
 
         when(userRepository.findByUsername(TEST_USER_USERNAME))
                 .thenReturn(Optional.of(teacher));
 
-        when(paperRepository.findById(TEST_PAPER_ID))
+        when(paperRepository.findWithAuthorById(TEST_PAPER_ID))
                 .thenReturn(Optional.of(paper));
+        when(paperEventPublisher.publish(eq(TEST_ROLL_ID), eq("delete"), any(PaperResponseDTO.class)))
+                .thenReturn(12L);
 
         //when
         paperService.deletePaper(TEST_PAPER_ID);
 
         //then
         verify(userRepository).findByUsername(TEST_USER_USERNAME);
-        verify(paperRepository).findById(TEST_PAPER_ID);
+        verify(paperRepository).findWithAuthorById(TEST_PAPER_ID);
         verify(paperRepository).delete(paper);
+        verify(paperEventPublisher).publish(eq(TEST_ROLL_ID), eq("delete"), any(PaperResponseDTO.class));
+        verify(paperChangeService).record(TEST_ROLL_ID, 12L, TEST_PAPER_ID, PaperChange.Type.DELETED);
+    }
+
+    @Test
+    @DisplayName("학생이 다른 학생의 페이퍼 삭제 - 403 (PAPER_DELETE_FORBIDDEN)")
+    void deletePaper_student_forbidden() {
+        setUpStudentAuthentication();
+
+        Student other = Student.builder()
+                .id(TEST_STUDENT_ID + 1)
+                .name("다른 학생")
+                .build();
+
+        Paper paper = Paper.builder()
+                .id(TEST_PAPER_ID)
+                .content(TEST_CONTENT)
+                .student(other)
+                .roll(Roll.builder().id(TEST_ROLL_ID).build())
+                .createdBy(Paper.CreatedBy.STUDENT)
+                .build();
+
+        when(paperRepository.findWithAuthorById(TEST_PAPER_ID))
+                .thenReturn(Optional.of(paper));
+
+        //when
+        PaperException exception = assertThrows(PaperException.class, () -> paperService.deletePaper(TEST_PAPER_ID));
+
+        //then
+        assertThat(exception.getErrorCode()).isEqualTo(PaperErrorCode.PAPER_DELETE_FORBIDDEN);
+        verify(paperRepository, never()).delete(any(Paper.class));
+        verify(paperEventPublisher, never()).publish(any(), any(), any());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("페이퍼 목록 조회 - 다음 페이지가 있으면 nextCursor 반환")
+    void getPapers_nextCursor() {
+        // given : size 2 요청 -> 3건 조회되면 다음 페이지 존재
+        // id는 생성 순서와 다를 수 있음 (노드별 블록 할당)
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 2, 9, 0, 0, 123_456_000);
+        List<PaperResponseDTO> papers = List.of(
+                new PaperResponseDTO(null, 51L, "1", "teacher", "TEACHER", createdAt),
+                new PaperResponseDTO(null, 2L, "2", "teacher", "TEACHER", createdAt.plusSeconds(1)),
+                new PaperResponseDTO(null, 3L, "3", "teacher", "TEACHER", createdAt.plusSeconds(2)));
+        when(paperRepository.findResponsesByRollId(eq(TEST_ROLL_ID), eq(PaperCursor.FIRST), any(Pageable.class)))
+                .thenReturn(papers);
+
+        // when
+        PaperPageDTO page = paperService.getPapers(TEST_ROLL_ID, null, 2);
+
+        // then
+        // then : 마지막 paper의 (created_at, id)가 커서
+        assertThat(page.getPapers()).hasSize(2);
+        assertThat(PaperCursor.parse(page.getNextCursor())).isEqualTo(new PaperCursor(createdAt.plusSeconds(1), 2L));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("페이퍼 목록 조회 - 마지막 페이지면 nextCursor 없음")
+    void getPapers_lastPage() {
+        // given
+        PaperCursor cursor = new PaperCursor(LocalDateTime.of(2024, 3, 2, 9, 0, 1), 2L);
+        when(paperRepository.findResponsesByRollId(eq(TEST_ROLL_ID), eq(cursor), any(Pageable.class)))
+                .thenReturn(List.of(new PaperResponseDTO(null, 3L, "3", "teacher", "TEACHER")));
+
+        // when
+        PaperPageDTO page = paperService.getPapers(TEST_ROLL_ID, cursor.toString(), 2);
+
+        // then
+        assertThat(page.getPapers()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이퍼 목록 조회 - 형식이 잘못된 커서면 예외 발생")
+    void getPapers_invalidCursor() {
+        PaperException exception = assertThrows(PaperException.class,
+                () -> paperService.getPapers(TEST_ROLL_ID, "12", 2));
+
+        assertThat(exception.getErrorCode()).isEqualTo(PaperErrorCode.INVALID_PAPER_CURSOR);
+        verify(paperRepository, never()).findResponsesByRollIdAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("페이퍼 목록 조회 - 같은 페이지는 캐시에서 반환하고 evict 후 다시 조회")
+    void getPapers_cached() {
+        // given
+        when(paperRepository.findResponsesByRollId(eq(TEST_ROLL_ID), eq(PaperCursor.FIRST), any(Pageable.class)))
+                .thenReturn(List.of(new PaperResponseDTO(null, 1L, "1", "teacher", "TEACHER")));
+
+        // when
+        paperService.getPapers(TEST_ROLL_ID, null, PaperService.DEFAULT_PAGE_SIZE);
+        paperService.getPapers(TEST_ROLL_ID, null, PaperService.DEFAULT_PAGE_SIZE);
+        paperListCache.evict(TEST_ROLL_ID);
+        paperService.getPapers(TEST_ROLL_ID, null, PaperService.DEFAULT_PAGE_SIZE);
+
+        // then
+        verify(paperRepository, times(2)).findResponsesByRollId(eq(TEST_ROLL_ID), eq(PaperCursor.FIRST), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("roll 삭제 후 처리 - 캐시된 목록을 비우고 roll-delete 이벤트로 버전을 올림")
+    void afterRollDeleted_evictsAndPublishes() {
+        // given : 삭제 전 목록이 캐시되어 있음
+        when(paperRepository.findResponsesByRollId(eq(TEST_ROLL_ID), eq(PaperCursor.FIRST), any(Pageable.class)))
+                .thenReturn(List.of(new PaperResponseDTO(null, 1L, "1", "teacher", "TEACHER")), List.of());
+        paperService.getPapers(TEST_ROLL_ID, null, PaperService.DEFAULT_PAGE_SIZE);
+
+        // when
+        paperService.afterRollDeleted(TEST_ROLL_ID);
+
+        // then
+        assertThat(paperService.getPapers(TEST_ROLL_ID, null, PaperService.DEFAULT_PAGE_SIZE).getPapers()).isEmpty();
+        verify(paperEventPublisher).publish(TEST_ROLL_ID, "roll-delete", Map.of("rollId", TEST_ROLL_ID));
+        verify(paperChangeService, never()).record(any(), any(), any(), any());
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("선생님이 페이퍼 작성 - uid가 있는 토큰이면 사용자를 조회하지 않음")
+    void createPaper_withUserId_noUserLookup() {
+        //given
+        setUpTeacherAuthentication();
+        lenient().when(teacher.getUserId()).thenReturn(TEST_USER_ID);
+
+        User teacherReference = User.builder().id(TEST_USER_ID).build();
+        Roll roll = Roll.builder().id(TEST_ROLL_ID).build();
+        Paper paper = Paper.builder()
+                .id(TEST_PAPER_ID)
+                .content(TEST_CONTENT)
+                .user(teacherReference)
+                .roll(roll)
+                .build();
+
+        when(userRepository.getReferenceById(TEST_USER_ID)).thenReturn(teacherReference);
+        when(rollRepository.findById(TEST_ROLL_ID)).thenReturn(Optional.of(roll));
+        when(paperRepository.save(any(Paper.class))).thenReturn(paper);
+
+        //when
+        PaperResponseDTO response = paperService.createPaper(TEST_ROLL_ID, createTestPaperRequestDTO());
+
+        //then : 작성자 이름은 토큰 값 사용
+        assertThat(response.getAuthorName()).isEqualTo(TEST_USER_NAME);
+        verify(userRepository, never()).findByUsername(anyString());
     }
 }
@@ -0,0 +1,130 @@
+package com.sparklenote.paper.cache;
+
+import com.sparklenote.paper.dto.request.PaperCursor;
+import com.sparklenote.paper.dto.response.PaperPageDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaperListCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PaperListCache paperListCache = new PaperListCache(100, Duration.ofMinutes(10), meterRegistry);
+
+    @Test
+    @DisplayName("동시에 입장해도 같은 roll의 목록은 한 번만 조회한다")
+    void get_concurrentJoin_loadsOnce() throws Exception {
+        // GIVEN
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(30);
+
+        // WHEN
+        for (int i = 0; i < 30; i++) {
+            executor.submit(() -> {
+                start.await();
+                return paperListCache.get(1L, null, 50, () -> {
+                    loads.incrementAndGet();
+                    return new PaperPageDTO(List.of(), null);
+                });
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // THEN
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중 evict되면 이전 목록은 캐시에 남지 않는다")
+    void get_evictedWhileLoading_notCached() {
+        // GIVEN
+        paperListCache.get(1L, null, 50, () -> {
+            paperListCache.evict(1L);
+            return new PaperPageDTO(List.of(), null);
+        });
+
+        // WHEN
+        AtomicInteger loads = new AtomicInteger();
+        paperListCache.get(1L, null, 50, () -> {
+            loads.incrementAndGet();
+            return new PaperPageDTO(List.of(), null);
+        });
+
+        // THEN
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("더 새로운 roll 버전으로 조회하면 변경 이벤트가 오기 전이라도 다시 조회한다")
+    void get_newerVersion_reloads() {
+        // GIVEN
+        AtomicInteger loads = new AtomicInteger();
+        paperListCache.get(1L, 3L, null, 50, () -> {
+            loads.incrementAndGet();
+            return new PaperPageDTO(List.of(), null);
+        });
+
+        // WHEN
+        paperListCache.get(1L, 3L, null, 50, () -> {
+            loads.incrementAndGet();
+            return new PaperPageDTO(List.of(), null);
+        });
+        paperListCache.get(1L, 4L, null, 50, () -> {
+            loads.incrementAndGet();
+            return new PaperPageDTO(List.of(), null);
+        });
+
+        // THEN : 같은 버전은 캐시, 새 버전은 재조회
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("hit/miss는 페이지 단위로 기록된다 (같은 roll의 다른 페이지, 새 버전은 miss)")
+    void stats_perPage() {
+        // GIVEN
+        Supplier<PaperPageDTO> loader = () -> new PaperPageDTO(List.of(), null);
+
+        // WHEN
+        paperListCache.get(1L, 3L, null, 50, loader); // miss
+        paperListCache.get(1L, 3L, new PaperCursor(LocalDateTime.of(2024, 3, 2, 9, 0), 10L), 50, loader); // miss (다른 페이지)
+        paperListCache.get(1L, 3L, null, 50, loader); // hit
+        paperListCache.get(1L, 4L, null, 50, loader); // miss (새 버전)
+        paperListCache.evict(1L);
+        paperListCache.get(1L, 4L, null, 50, loader); // miss (evict 후)
+
+        // THEN
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("캐시 hit/miss가 메트릭으로 노출된다")
+    void metrics_registered() {
+        // GIVEN
+        paperListCache.get(1L, null, 50, () -> new PaperPageDTO(List.of(), null));
+
+        // THEN
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "paper.list").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "paper.list").meters()).isNotEmpty();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "paper.list").tag("result", result)
+                .functionCounter().count();
+    }
+}
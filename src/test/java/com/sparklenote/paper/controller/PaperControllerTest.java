@@ -0,0 +1,105 @@
+package com.sparklenote.paper.controller;
+
+import com.sparklenote.paper.dto.response.PaperChangesDTO;
+import com.sparklenote.paper.dto.response.PaperPageDTO;
+import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import com.sparklenote.paper.event.PaperEventSequence;
+import com.sparklenote.paper.service.PaperChangeService;
+import com.sparklenote.paper.service.PaperService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PaperController.class) // 컨트롤러만 로드하여 테스트
+@WithMockUser(username = "testUsername", roles = "STUDENT")
+class PaperControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PaperService paperService;
+
+    @MockBean
+    private PaperEventSequence paperEventSequence;
+
+    @MockBean
+    private PaperChangeService paperChangeService;
+
+    @Test
+    @DisplayName("paper 목록 조회 - roll 버전이 ETag로 응답된다")
+    void getPapers_etag() throws Exception {
+        // GIVEN
+        given(paperEventSequence.version(1L)).willReturn(7L);
+        given(paperService.getPapers(1L, 7L, null, PaperService.DEFAULT_PAGE_SIZE))
+                .willReturn(new PaperPageDTO(List.of(new PaperResponseDTO()), null));
+
+        // WHEN & THEN
+        mockMvc.perform(get("/paper/rolls/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-7\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.data.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("paper 목록 조회 - If-None-Match가 현재 버전이면 조회 없이 304")
+    void getPapers_notModified() throws Exception {
+        // GIVEN
+        given(paperEventSequence.version(1L)).willReturn(7L);
+
+        // WHEN & THEN
+        mockMvc.perform(get("/paper/rolls/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-7\""))
+                .andExpect(content().string(""));
+        verify(paperService, never()).getPapers(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("paper 목록 조회 - 버전이 바뀌었으면 새 목록과 새 ETag 응답")
+    void getPapers_modified() throws Exception {
+        // GIVEN
+        given(paperEventSequence.version(1L)).willReturn(8L);
+        given(paperService.getPapers(1L, 8L, null, PaperService.DEFAULT_PAGE_SIZE))
+                .willReturn(new PaperPageDTO(List.of(), null));
+
+        // WHEN & THEN
+        mockMvc.perform(get("/paper/rolls/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-8\""));
+    }
+
+    @Test
+    @DisplayName("paper 변경 조회 - since 이후 변경만 응답")
+    void getPaperChanges() throws Exception {
+        // GIVEN
+        given(paperChangeService.getChanges(1L, 7L)).willReturn(PaperChangesDTO.builder()
+                .version(9L)
+                .upserted(List.of(new PaperResponseDTO(null, 10L, "내용", "선생님", "TEACHER")))
+                .deleted(List.of(3L))
+                .build());
+
+        // WHEN & THEN
+        mockMvc.perform(get("/paper/rolls/1/changes").param("since", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(9))
+                .andExpect(jsonPath("$.data.upserted[0].paperId").value(10))
+                .andExpect(jsonPath("$.data.deleted[0]").value(3));
+    }
+}
@@ -0,0 +1,142 @@
+package com.sparklenote.paper.event;
+
+import com.sparklenote.common.exception.PaperException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class PaperEventHubTest {
+
+    private final PaperEventHub paperEventHub = new PaperEventHub(
+            64, Duration.ofMinutes(30), Duration.ofSeconds(15), 2, 3,
+            new PaperEventReplayBuffer(3), mock(PaperEventSequence.class), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("구독자는 roll 단위로 분리되어 관리된다")
+    void subscribe_isolatedByRoll() {
+        // WHEN
+        SseEmitter first = paperEventHub.subscribe(1L, null);
+        SseEmitter second = paperEventHub.subscribe(1L, null);
+        SseEmitter other = paperEventHub.subscribe(2L, null);
+
+        // THEN
+        assertThat(first).isNotSameAs(second).isNotSameAs(other);
+        assertThat(paperEventHub.getSubscriberCount(1L)).isEqualTo(2);
+        assertThat(paperEventHub.getSubscriberCount(2L)).isEqualTo(1);
+        assertThat(paperEventHub.getSubscriberCount(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 roll에 이벤트를 보내도 예외가 발생하지 않는다")
+    void broadcast_noSubscribers() {
+        assertThatCode(() -> paperEventHub.broadcast(99L, PaperEventFrame.of("create", "data")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("구독자 큐가 가득 차면 이벤트를 더 받지 않는다")
+    void subscriberQueue_bounded() {
+        // GIVEN
+        PaperSseSubscriber subscriber = new PaperSseSubscriber(1L, new SseEmitter(), 2);
+
+        // WHEN & THEN
+        assertThat(subscriber.offer(PaperEventFrame.of("create", "1"))).isTrue();
+        assertThat(subscriber.offer(PaperEventFrame.of("create", "2"))).isTrue();
+        assertThat(subscriber.offer(PaperEventFrame.of("create", "3"))).isFalse();
+        assertThat(subscriber.getQueueSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("frame은 SSE 규격(event/data 라인)으로 한 번만 인코딩된다")
+    void frame_encodedOnce() {
+        // WHEN
+        PaperEventFrame frame = PaperEventFrame.of("create", "{\"paperId\":1}");
+        PaperEventFrame multiLine = PaperEventFrame.of("update", "a\nb");
+
+        // THEN
+        assertThat(frame.toString()).isEqualTo("event:create\ndata:{\"paperId\":1}\n\n");
+        assertThat(PaperEventFrame.of(5L, "create", "{}").toString()).isEqualTo("id:5\nevent:create\ndata:{}\n\n");
+        assertThat(multiLine.toString()).isEqualTo("event:update\ndata:a\ndata:b\n\n");
+        assertThat(frame.getItems()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("재전송 버퍼는 Last-Event-ID 이후 이벤트만 돌려준다")
+    void replayBuffer_since() {
+        // GIVEN
+        PaperEventReplayBuffer.Ring ring = new PaperEventReplayBuffer(3).ring(1L);
+        ring.append(PaperEventFrame.of(2L, "create", "{}"));
+        ring.append(PaperEventFrame.of(1L, "create", "{}")); // 순서가 뒤바뀌어 들어와도 정렬
+        ring.append(PaperEventFrame.of(3L, "update", "{}"));
+
+        // WHEN & THEN
+        assertThat(ring.since(1L)).get().asList()
+                .extracting("id").containsExactly(2L, 3L);
+        assertThat(ring.since(3L)).get().asList().isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼에서 밀려난 구간을 요청하면 재전송할 수 없다")
+    void replayBuffer_gap() {
+        // GIVEN : 용량 3인 버퍼에 5개 이벤트 -> 3, 4, 5만 남음
+        PaperEventReplayBuffer.Ring ring = new PaperEventReplayBuffer(3).ring(1L);
+        for (long id = 1; id <= 5; id++) {
+            ring.append(PaperEventFrame.of(id, "create", "{}"));
+        }
+
+        // WHEN & THEN
+        assertThat(ring.since(2L)).isPresent();
+        assertThat(ring.since(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼 중간에 도착하지 않은 id가 있으면 재전송할 수 없다")
+    void replayBuffer_missingInMiddle() {
+        // GIVEN : 2번 이벤트의 relay 메시지가 도착하지 않음
+        PaperEventReplayBuffer.Ring ring = new PaperEventReplayBuffer(5).ring(1L);
+        ring.append(PaperEventFrame.of(1L, "create", "{}"));
+        ring.append(PaperEventFrame.of(3L, "create", "{}"));
+        ring.append(PaperEventFrame.of(4L, "update", "{}"));
+
+        // WHEN & THEN
+        assertThat(ring.since(1L)).isEmpty();
+        assertThat(ring.since(0L)).isEmpty();
+        assertThat(ring.since(3L)).get().asList()
+                .extracting("id").containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("roll/노드 연결 수 제한을 넘으면 구독이 거절된다")
+    void subscribe_connectionLimit() {
+        // GIVEN : roll당 2개, 노드당 3개 제한
+        paperEventHub.subscribe(1L, null);
+        paperEventHub.subscribe(1L, null);
+        paperEventHub.subscribe(2L, null);
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> paperEventHub.subscribe(1L, null)).isInstanceOf(PaperException.class);
+        assertThatThrownBy(() -> paperEventHub.subscribe(3L, null)).isInstanceOf(PaperException.class);
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트가 오래 전송되지 않으면 멈춘 연결로 판단한다")
+    void subscriber_stalled() {
+        // GIVEN
+        PaperSseSubscriber subscriber = new PaperSseSubscriber(1L, new SseEmitter(), 2);
+        long now = System.currentTimeMillis();
+
+        // WHEN & THEN
+        assertThat(subscriber.isStalled(now + 60_000, 30_000)).isFalse(); // 보낼 이벤트가 없으면 정상
+        subscriber.offer(PaperEventFrame.comment("heartbeat"));
+        assertThat(subscriber.isStalled(now + 60_000, 30_000)).isTrue();
+        assertThat(subscriber.isStalled(now, 30_000)).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.sparklenote.paper.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparklenote.paper.cache.PaperListCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaperEventRelayTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private PaperEventHub paperEventHub;
+
+    @Mock
+    private PaperListCache paperListCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PaperEventRelay paperEventRelay;
+
+    @BeforeEach
+    void setUp() {
+        paperEventRelay = new PaperEventRelay(redisTemplate, redisMessageListenerContainer, paperEventHub, objectMapper, paperListCache);
+    }
+
+    @Test
+    @DisplayName("이벤트는 roll 전용 채널로 발행된다")
+    void publish_perRollChannel() {
+        // WHEN
+        paperEventRelay.publish(7L, 1L, "create", "{}");
+
+        // THEN
+        verify(redisTemplate).convertAndSend(eq("paper:roll:7"), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 온 이벤트는 로컬 구독자에게 전달된다")
+    void onMessage_fromOtherNode() throws Exception {
+        // GIVEN
+        given(paperEventHub.isTracking(7L)).willReturn(true);
+        String body = objectMapper.writeValueAsString(new PaperEventRelay.RelayMessage("other-node", 1L, "create", "{}"));
+
+        // WHEN
+        paperEventRelay.onMessage(message("paper:roll:7", body), null);
+
+        // THEN
+        verify(paperEventHub).broadcast(eq(7L), any(PaperEventFrame.class));
+    }
+
+    @Test
+    @DisplayName("자기 노드가 발행한 이벤트는 다시 전송하지 않는다")
+    void onMessage_fromSelf_ignored() throws Exception {
+        // GIVEN
+        given(paperEventHub.isTracking(7L)).willReturn(true);
+        String body = objectMapper.writeValueAsString(
+                new PaperEventRelay.RelayMessage(paperEventRelay.getNodeId(), 1L, "create", "{}"));
+
+        // WHEN
+        paperEventRelay.onMessage(message("paper:roll:7", body), null);
+
+        // THEN
+        verify(paperEventHub, never()).broadcast(anyLong(), any(PaperEventFrame.class));
+    }
+
+    private DefaultMessage message(String channel, String body) {
+        return new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("구독하지 않는 roll의 이벤트도 paper 목록 캐시는 비운다")
+    void onMessage_notTracking_evictsCache() {
+        // GIVEN
+        given(paperEventHub.isTracking(7L)).willReturn(false);
+
+        // WHEN
+        paperEventRelay.onMessage(message("paper:roll:7", "{}"), null);
+
+        // THEN
+        verify(paperListCache).evict(7L);
+        verify(paperEventHub, never()).broadcast(anyLong(), any(PaperEventFrame.class));
+    }
+}
@@ -0,0 +1,93 @@
+package com.sparklenote.paper.ingest;
+
+import com.sparklenote.common.config.TransactionConfig;
+import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.domain.entity.Roll;
+import com.sparklenote.domain.entity.User;
+import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.domain.repository.PaperRepository;
+import com.sparklenote.paper.dto.request.PaperCursor;
+import com.sparklenote.paper.dto.request.PaperRequestDTO;
+import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * write-behind batch 저장 검증 (H2)
+ * @memo : 미리 받은 id와 JPA로 저장되는 paper의 id가 겹치지 않는지, 다시 전달된 항목이 중복 저장되지 않는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PaperBatchWriter.class, PaperIdAllocator.class, TransactionConfig.class})
+class PaperBatchWriterTest {
+
+    @Autowired
+    private PaperBatchWriter paperBatchWriter;
+
+    @Autowired
+    private PaperIdAllocator paperIdAllocator;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private User teacher;
+    private Roll roll;
+
+    @BeforeEach
+    void setUp() {
+        teacher = testEntityManager.persist(User.builder()
+                .username("naver ingest-teacher" + System.nanoTime())
+                .name("선생님")
+                .role(Role.TEACHER)
+                .build());
+        roll = testEntityManager.persist(Roll.builder()
+                .rollName("write-behind 롤")
+                .classCode(1234)
+                .url("ingest-url" + System.nanoTime())
+                .user(teacher)
+                .build());
+        testEntityManager.flush();
+    }
+
+    @Test
+    @DisplayName("미리 받은 id로 batch 저장하고, 같은 항목이 다시 와도 한 번만 저장된다")
+    void insert_batch_idempotent() {
+        // GIVEN : JPA 저장 paper와 write-behind paper가 섞여서 생성
+        Paper saved = paperRepository.saveAndFlush(Paper.createTeacherPaper(new PaperRequestDTO("바로 저장"), teacher, roll));
+        List<PaperIngestRecord> papers = LongStream.range(0, 40)
+                .mapToObj(i -> new PaperIngestRecord(paperIdAllocator.next(), roll.getId(), "글 " + i,
+                        Paper.CreatedBy.USER, null, teacher.getId(), "선생님", System.currentTimeMillis()))
+                .toList();
+
+        // WHEN : 두 번째는 ack 전에 종료되어 다시 전달된 경우
+        paperBatchWriter.insert(papers);
+        paperBatchWriter.insert(papers.subList(30, 40));
+        testEntityManager.clear();
+
+        // THEN
+        List<PaperResponseDTO> stored = paperRepository.findResponsesByRollId(roll.getId(), PaperCursor.FIRST, PageRequest.of(0, 100));
+        assertThat(stored).hasSize(41);
+        assertThat(stored).extracting(PaperResponseDTO::getPaperId).doesNotHaveDuplicates();
+        assertThat(papers).extracting(PaperIngestRecord::paperId).doesNotContain(saved.getId());
+        assertThat(stored).filteredOn(paper -> paper.getPaperId().equals(papers.get(0).paperId()))
+                .extracting(PaperResponseDTO::getAuthorName)
+                .containsExactly("선생님");
+    }
+}
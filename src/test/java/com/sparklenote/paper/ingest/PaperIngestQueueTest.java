@@ -0,0 +1,224 @@
+package com.sparklenote.paper.ingest;
+
+import com.sparklenote.common.config.TransactionConfig;
+import com.sparklenote.common.datasource.ReadYourWrites;
+import com.sparklenote.domain.entity.Paper;
+import com.sparklenote.domain.entity.PaperChange;
+import com.sparklenote.domain.entity.Roll;
+import com.sparklenote.domain.entity.User;
+import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.domain.repository.PaperRepository;
+import com.sparklenote.domain.repository.RollRepository;
+import com.sparklenote.domain.repository.UserRepository;
+import com.sparklenote.paper.cache.PaperListCache;
+import com.sparklenote.paper.event.PaperEventPublisher;
+import com.sparklenote.paper.service.PaperChangeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * write-behind 큐 flush 검증 (Redis Stream은 mock, 저장은 실제 DB(H2))
+ * @memo : batch 저장이 실패했을 때 저장 가능한 항목만 반영되고, 저장할 수 없는 항목(읽을 수 없는 항목 포함)은 dead-letter로 옮겨 ack되는지 확인
+ * @memo : 다시 전달된 항목(이미 저장됨)에는 이벤트, 변경 로그를 다시 남기지 않는지 확인
+ * @memo : batch 실패 시 트랜잭션 롤백을 확인해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PaperBatchWriter.class, PaperIdAllocator.class, TransactionConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaperIngestQueueTest {
+
+    @Autowired
+    private PaperBatchWriter paperBatchWriter;
+    @Autowired
+    private PaperIdAllocator paperIdAllocator;
+    @Autowired
+    private PaperRepository paperRepository;
+    @Autowired
+    private RollRepository rollRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+    private final PaperEventPublisher paperEventPublisher = mock(PaperEventPublisher.class);
+    private final PaperChangeService paperChangeService = mock(PaperChangeService.class);
+    private final PaperListCache paperListCache = mock(PaperListCache.class);
+
+    private PaperIngestQueue paperIngestQueue;
+    private User teacher;
+    private Roll roll;
+    private Roll deletedRoll;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(User.builder()
+                .username("naver queue-teacher" + System.nanoTime())
+                .name("선생님")
+                .role(Role.TEACHER)
+                .build());
+        roll = rollRepository.save(newRoll());
+        deletedRoll = rollRepository.save(newRoll());
+
+        given(stringRedisTemplate.<Object, Object>opsForStream()).willReturn(streamOperations);
+        given(streamOperations.pending(eq(PaperIngestQueue.STREAM_KEY), eq(PaperIngestQueue.GROUP), any(Range.class), anyLong()))
+                .willReturn(new PendingMessages(PaperIngestQueue.GROUP, List.of()));
+        paperIngestQueue = new PaperIngestQueue(stringRedisTemplate, paperBatchWriter, paperEventPublisher,
+                paperChangeService, paperListCache, new ReadYourWrites(null, "", Duration.ofSeconds(3)),
+                true, 100, Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        paperRepository.bulkDeleteByRollId(roll.getId());
+        rollRepository.bulkDeleteById(roll.getId());
+        rollRepository.bulkDeleteById(deletedRoll.getId());
+        userRepository.delete(teacher);
+    }
+
+    @Test
+    @DisplayName("flush 전에 roll이 삭제되면 그 roll의 항목만 dead-letter로 옮기고 모두 ack한다")
+    void flush_rollDeleted_deadLetters() {
+        // GIVEN : 두 roll의 항목이 섞여 있고, 한 roll은 flush 전에 삭제됨
+        List<MapRecord<String, Object, Object>> records = List.of(
+                record(1, roll), record(2, deletedRoll), record(3, roll), record(4, deletedRoll));
+        givenRead(records);
+        rollRepository.bulkDeleteById(deletedRoll.getId());
+
+        // WHEN
+        paperIngestQueue.flush();
+
+        // THEN : 남은 roll의 항목만 저장, 이벤트 전송
+        assertThat(paperRepository.findByRoll_Id(roll.getId())).extracting(Paper::getId)
+                .containsExactlyInAnyOrder(paperId(records.get(0)), paperId(records.get(2)));
+        verify(paperEventPublisher, times(2)).publish(eq(roll.getId()), eq("create"), any());
+        verify(paperEventPublisher, never()).publish(eq(deletedRoll.getId()), any(), any());
+        verify(paperChangeService, never()).record(eq(deletedRoll.getId()), any(), any(), any(PaperChange.Type.class));
+
+        // 삭제된 roll의 항목은 이유와 함께 dead-letter로
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MapRecord<String, Object, Object>> deadLetters = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations, times(2)).add(deadLetters.capture());
+        assertThat(deadLetters.getAllValues()).allSatisfy(deadLetter -> {
+            assertThat(deadLetter.getStream()).isEqualTo(PaperIngestQueue.DEAD_LETTER_KEY);
+            assertThat(deadLetter.getValue().get("rollId")).isEqualTo(deletedRoll.getId().toString());
+            assertThat(deadLetter.getValue().get("error").toString()).isNotBlank();
+        });
+
+        // 모든 항목 ack (pending에 남아 계속 실패하지 않음)
+        verify(streamOperations).acknowledge(PaperIngestQueue.STREAM_KEY, PaperIngestQueue.GROUP,
+                records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 항목이 앞에 있어도 dead-letter로 옮겨 ack하고 뒤의 항목은 저장한다")
+    void flush_malformedEntry_deadLettersAndContinues() {
+        // GIVEN : paperId가 숫자가 아니고 필수 필드가 빠진 항목이 맨 앞
+        MapRecord<String, Object, Object> corrupt = StreamRecords.newRecord()
+                .in(PaperIngestQueue.STREAM_KEY)
+                .withId(RecordId.of("1-0"))
+                .ofMap(new HashMap<>(Map.of("paperId", "not-a-number", "rollId", roll.getId().toString())));
+        List<MapRecord<String, Object, Object>> records = List.of(corrupt, record(2, roll), record(3, roll));
+        givenRead(records);
+
+        // WHEN
+        paperIngestQueue.flush();
+
+        // THEN : 뒤의 항목은 저장, 이벤트 전송
+        assertThat(paperRepository.findByRoll_Id(roll.getId())).extracting(Paper::getId)
+                .containsExactlyInAnyOrder(paperId(records.get(1)), paperId(records.get(2)));
+        verify(paperEventPublisher, times(2)).publish(eq(roll.getId()), eq("create"), any());
+
+        // 읽을 수 없는 항목은 원래 id와 이유를 붙여 dead-letter로
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MapRecord<String, Object, Object>> deadLetter = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(deadLetter.capture());
+        assertThat(deadLetter.getValue().getStream()).isEqualTo(PaperIngestQueue.DEAD_LETTER_KEY);
+        assertThat(deadLetter.getValue().getValue().get("sourceId")).isEqualTo("1-0");
+        assertThat(deadLetter.getValue().getValue().get("error").toString()).isNotBlank();
+
+        // 모든 항목 ack (다음 주기에 같은 항목에서 다시 실패하지 않음)
+        verify(streamOperations).acknowledge(PaperIngestQueue.STREAM_KEY, PaperIngestQueue.GROUP,
+                records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+    }
+
+    @Test
+    @DisplayName("ack에 실패해서 다시 전달된 항목은 이벤트, 변경 로그를 다시 남기지 않는다")
+    void flush_redeliveredAfterAckFailure_publishesOnce() {
+        // GIVEN : 첫 flush는 저장 후 ack에서 실패 -> 같은 항목이 pending으로 다시 전달됨
+        List<MapRecord<String, Object, Object>> records = List.of(record(1, roll), record(2, roll));
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(records, records, List.of());
+        given(streamOperations.acknowledge(eq(PaperIngestQueue.STREAM_KEY), eq(PaperIngestQueue.GROUP), any(RecordId[].class)))
+                .willThrow(new RedisSystemException("ack 실패", null))
+                .willReturn(2L);
+
+        // WHEN
+        paperIngestQueue.flush();
+        verify(paperEventPublisher, times(2)).publish(eq(roll.getId()), eq("create"), any()); // 저장 직후(ack 전) 전송
+        paperIngestQueue.flush();
+
+        // THEN : 한 번씩만 저장, 이벤트 전송, 변경 로그 기록
+        assertThat(paperRepository.findByRoll_Id(roll.getId())).hasSize(2);
+        verify(paperEventPublisher, times(2)).publish(eq(roll.getId()), eq("create"), any());
+        verify(paperChangeService, times(2)).record(eq(roll.getId()), any(), any(), eq(PaperChange.Type.CREATED));
+        verify(streamOperations, times(2)).acknowledge(eq(PaperIngestQueue.STREAM_KEY), eq(PaperIngestQueue.GROUP), any(RecordId[].class));
+    }
+
+    private Roll newRoll() {
+        return Roll.builder()
+                .rollName("write-behind 롤")
+                .classCode(1234)
+                .url("queue-url" + System.nanoTime())
+                .user(teacher)
+                .build();
+    }
+
+    // pending(ReadOffset 0) 조회에서 records를 받고, 그 뒤로는 빈 결과
+    @SuppressWarnings("unchecked")
+    private void givenRead(List<MapRecord<String, Object, Object>> records) {
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(records, List.of());
+    }
+
+    private MapRecord<String, Object, Object> record(int sequence, Roll target) {
+        PaperIngestRecord paper = new PaperIngestRecord(paperIdAllocator.next(), target.getId(), "글 " + sequence,
+                Paper.CreatedBy.USER, null, teacher.getId(), "선생님", System.currentTimeMillis());
+        Map<Object, Object> map = new HashMap<>(paper.toMap());
+        return StreamRecords.newRecord()
+                .in(PaperIngestQueue.STREAM_KEY)
+                .withId(RecordId.of(sequence + "-0"))
+                .ofMap(map);
+    }
+
+    private Long paperId(MapRecord<String, Object, Object> record) {
+        return Long.valueOf(record.getValue().get("paperId").toString());
+    }
+}
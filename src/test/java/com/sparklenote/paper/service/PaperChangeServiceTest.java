@@ -0,0 +1,172 @@
+package com.sparklenote.paper.service;
+
+import com.sparklenote.common.datasource.ReadYourWrites;
+import com.sparklenote.domain.entity.PaperChange;
+import com.sparklenote.domain.repository.PaperChangeRepository;
+import com.sparklenote.domain.repository.PaperRepository;
+import com.sparklenote.paper.dto.response.PaperChangesDTO;
+import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import com.sparklenote.paper.event.PaperEventSequence;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaperChangeServiceTest {
+
+    @Mock
+    private PaperChangeRepository paperChangeRepository;
+
+    @Mock
+    private PaperRepository paperRepository;
+
+    @Mock
+    private PaperEventSequence paperEventSequence;
+
+    // replica 없음 (조회는 항상 그대로 실행)
+    @Spy
+    private ReadYourWrites readYourWrites = new ReadYourWrites(null, "", Duration.ofSeconds(3));
+
+    @InjectMocks
+    private PaperChangeService paperChangeService;
+
+    @Test
+    @DisplayName("paper별 마지막 변경만 반영하고 삭제는 tombstone으로 응답")
+    void getChanges_collapsesPerPaper() {
+        // GIVEN : 10 생성 -> 11 생성 -> 10 수정 -> 11 삭제
+        given(paperEventSequence.version(1L)).willReturn(9L);
+        given(paperChangeRepository.findByRollIdAndVersionGreaterThanOrderByVersion(eq(1L), eq(5L), any(Pageable.class)))
+                .willReturn(List.of(
+                        change(6L, 10L, PaperChange.Type.CREATED, 60),
+                        change(7L, 11L, PaperChange.Type.CREATED, 60),
+                        change(8L, 10L, PaperChange.Type.UPDATED, 60),
+                        change(9L, 11L, PaperChange.Type.DELETED, 60)));
+        given(paperRepository.findResponsesByIds(Set.of(10L)))
+                .willReturn(List.of(new PaperResponseDTO(null, 10L, "수정된 내용", "선생님", "TEACHER")));
+
+        // WHEN
+        PaperChangesDTO changes = paperChangeService.getChanges(1L, 5L);
+
+        // THEN
+        assertThat(changes.getVersion()).isEqualTo(9L);
+        assertThat(changes.getUpserted()).extracting(PaperResponseDTO::getContent).containsExactly("수정된 내용");
+        assertThat(changes.getDeleted()).containsExactly(11L);
+        assertThat(changes.isReset()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비어 있는 버전 뒤의 최근 변경은 앞 버전이 저장될 때까지 보류")
+    void getChanges_stopsAtRecentGap() {
+        // GIVEN : 7이 아직 저장 중
+        given(paperEventSequence.version(1L)).willReturn(8L);
+        given(paperChangeRepository.findByRollIdAndVersionGreaterThanOrderByVersion(eq(1L), eq(5L), any(Pageable.class)))
+                .willReturn(List.of(
+                        change(6L, 10L, PaperChange.Type.DELETED, 0),
+                        change(8L, 11L, PaperChange.Type.DELETED, 0)));
+
+        // WHEN
+        PaperChangesDTO changes = paperChangeService.getChanges(1L, 5L);
+
+        // THEN
+        assertThat(changes.getVersion()).isEqualTo(6L);
+        assertThat(changes.getDeleted()).containsExactly(10L);
+        verify(paperRepository, never()).findResponsesByIds(any());
+    }
+
+    @Test
+    @DisplayName("오래된 빈 버전은 기록 실패로 보고 건너뜀")
+    void getChanges_skipsSettledGap() {
+        // GIVEN
+        given(paperEventSequence.version(1L)).willReturn(8L);
+        given(paperChangeRepository.findByRollIdAndVersionGreaterThanOrderByVersion(eq(1L), eq(5L), any(Pageable.class)))
+                .willReturn(List.of(
+                        change(6L, 10L, PaperChange.Type.DELETED, 60),
+                        change(8L, 11L, PaperChange.Type.DELETED, 60)));
+
+        // WHEN
+        PaperChangesDTO changes = paperChangeService.getChanges(1L, 5L);
+
+        // THEN
+        assertThat(changes.getVersion()).isEqualTo(8L);
+        assertThat(changes.getDeleted()).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("since가 현재 버전보다 크면(시퀀스 초기화) 전체 재조회 요청")
+    void getChanges_reset() {
+        // GIVEN
+        given(paperEventSequence.version(1L)).willReturn(3L);
+
+        // WHEN
+        PaperChangesDTO changes = paperChangeService.getChanges(1L, 5L);
+
+        // THEN
+        assertThat(changes.isReset()).isTrue();
+        verify(paperChangeRepository, never()).findByRollIdAndVersionGreaterThanOrderByVersion(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("MAX_CHANGES보다 뒤처진 클라이언트는 (정리된 로그 대신) 전체 재조회 요청")
+    void getChanges_tooFarBehind_reset() {
+        // GIVEN
+        given(paperEventSequence.version(1L)).willReturn(5L + PaperChangeService.MAX_CHANGES + 1);
+
+        // WHEN
+        PaperChangesDTO changes = paperChangeService.getChanges(1L, 5L);
+
+        // THEN
+        assertThat(changes.isReset()).isTrue();
+        verify(paperChangeRepository, never()).findByRollIdAndVersionGreaterThanOrderByVersion(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("MAX_CHANGES 구간이 바뀔 때마다 더 이상 응답하지 않는 앞 버전의 로그를 정리")
+    void record_prunesOldVersions() {
+        // WHEN
+        paperChangeService.record(1L, 7L, 10L, PaperChange.Type.CREATED);
+        paperChangeService.record(1L, 2L * PaperChangeService.MAX_CHANGES, 10L, PaperChange.Type.UPDATED);
+
+        // THEN
+        verify(paperChangeRepository).bulkDeleteByRollIdUpTo(1L, (long) PaperChangeService.MAX_CHANGES);
+        verify(paperChangeRepository, never()).bulkDeleteByRollIdUpTo(eq(1L), eq(7L - PaperChangeService.MAX_CHANGES));
+    }
+
+    @Test
+    @DisplayName("MAX_CHANGES 배수 버전이 기록되지 않아도 (roll-delete, 기록 실패) 다음 구간의 첫 기록에서 정리")
+    void record_skippedMultiple_stillPrunes() {
+        // WHEN : 500 버전은 기록되지 않음
+        paperChangeService.record(1L, PaperChangeService.MAX_CHANGES - 1L, 10L, PaperChange.Type.CREATED);
+        paperChangeService.record(1L, PaperChangeService.MAX_CHANGES + 1L, 10L, PaperChange.Type.UPDATED);
+        paperChangeService.record(1L, PaperChangeService.MAX_CHANGES + 2L, 10L, PaperChange.Type.UPDATED);
+
+        // THEN : 구간이 바뀐 기록에서 한 번만 정리
+        verify(paperChangeRepository).bulkDeleteByRollIdUpTo(1L, 1L);
+        verify(paperChangeRepository, times(1)).bulkDeleteByRollIdUpTo(eq(1L), anyLong());
+    }
+
+    private PaperChange change(Long version, Long paperId, PaperChange.Type type, int secondsAgo) {
+        PaperChange change = PaperChange.of(1L, version, paperId, type);
+        ReflectionTestUtils.setField(change, "createdAt", LocalDateTime.now().minusSeconds(secondsAgo));
+        return change;
+    }
+}
@@ -283,7 +283,7 @@ class RollControllerTest {
                 .studentName("아니")
                 .build();
 
-        given(rollService.joinRoll(eq(url), any(RollJoinRequestDto.class))).willReturn(responseDto);
+        given(rollService.joinRoll(eq(url), any(RollJoinRequestDto.class), eq(true))).willReturn(responseDto);
 
         // WHEN : API 호출
         ResultActions result = mockMvc.perform(post("/roll/" + url + "/join")
@@ -322,5 +322,36 @@ class RollControllerTest {
         result.andExpect(status().isBadRequest());
     }
 
+    @Test
+    @Order(11)
+    @DisplayName("Roll 입장 - 성공 (papers=false면 paper 목록 없이 버전만 응답)")
+    void joinRoll_success_without_papers() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("studentUsername", null,
+                    Collections.singletonList(new SimpleGrantedAuthority(Role.STUDENT.name())))
+        );
+
+        // GIVEN
+        String url = "abc12314";
+        RollJoinRequestDto requestDto = new RollJoinRequestDto("아니", 9876, "1234");
+        RollJoinResponseDto responseDto = RollJoinResponseDto.builder()
+                .rollName("testRoll")
+                .studentName("아니")
+                .rollVersion(42L)
+                .build();
+
+        given(rollService.joinRoll(eq(url), any(RollJoinRequestDto.class), eq(false))).willReturn(responseDto);
 
-}
\ No newline at end of file
+        // WHEN
+        ResultActions result = mockMvc.perform(post("/roll/" + url + "/join")
+                .param("papers", "false")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto))
+                .with(csrf()));
+
+        // THEN
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rollVersion").value(42))
+                .andExpect(jsonPath("$.data.papers").doesNotExist());
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparklenote.roll.service;
+
+import com.sparklenote.common.support.ServiceJpaTestSupport;
+import com.sparklenote.roll.dto.response.RollJoinResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 학생 입장 동시성 검증
+ * @memo : 반 전체가 한꺼번에 입장해도 (roll, 이름, 핀번호)당 학생이 한 명만 등록되는지 RollService.joinRoll로 실제 DB(H2)에서 확인
+ * @memo : 각 스레드가 커밋된 데이터를 봐야 하므로 테스트 트랜잭션 없이 실행 (ServiceJpaTestSupport)
+ */
+class RollJoinConcurrencyTest extends ServiceJpaTestSupport {
+
+    private static final int STUDENTS = 25;
+    private static final int JOINS_PER_STUDENT = 12; // 300건 동시 입장
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("동시에 입장해도 학생은 한 번만 등록되고 모두 같은 학생으로 입장한다")
+    void joinRoll_concurrent() throws Exception {
+        // GIVEN
+        long registeredBefore = registeredJoins();
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RollJoinResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < STUDENTS * JOINS_PER_STUDENT; i++) {
+            String name = "학생" + (i % STUDENTS);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return rollService.joinRoll(roll.getUrl(), join(name), false);
+            }));
+        }
+
+        // WHEN
+        start.countDown();
+        List<RollJoinResponseDto> results = new ArrayList<>();
+        for (Future<RollJoinResponseDto> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // THEN : 학생 수만큼만 등록(기존 학생 제외), 같은 이름은 모두 같은 id
+        for (int i = 0; i < STUDENTS; i++) {
+            String name = "학생" + i;
+            assertThat(studentRepository.findByNameAndPinNumberAndRollId(name, PIN, roll.getId())).isPresent();
+            Set<Long> ids = results.stream()
+                    .filter(result -> result.getStudentName().equals(name))
+                    .map(RollJoinResponseDto::getStudentId)
+                    .collect(Collectors.toSet());
+            assertThat(ids).hasSize(1);
+        }
+        assertThat(results.stream().map(RollJoinResponseDto::getStudentId).distinct()).hasSize(STUDENTS);
+        assertThat(registeredJoins() - registeredBefore).isEqualTo(STUDENTS);
+    }
+
+    // 컨텍스트를 공유하는 다른 테스트의 입장도 같은 타이머에 쌓이므로 차이로 확인
+    private long registeredJoins() {
+        return Optional.ofNullable(meterRegistry.find("roll.join").tag("outcome", "registered").timer())
+                .map(Timer::count)
+                .orElse(0L);
+    }
+}
@@ -1,15 +1,21 @@
 package com.sparklenote.roll.service;
 
+import com.sparklenote.common.datasource.ReadYourWrites;
 import com.sparklenote.common.exception.RollException;
 import com.sparklenote.common.exception.UserException;
 import com.sparklenote.domain.entity.Roll;
 import com.sparklenote.domain.entity.Student;
 import com.sparklenote.domain.entity.User;
 import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.domain.repository.PaperChangeRepository;
+import com.sparklenote.domain.repository.PaperRepository;
 import com.sparklenote.domain.repository.RollRepository;
+import com.sparklenote.domain.repository.StickerRepository;
 import com.sparklenote.domain.repository.StudentRepository;
 import com.sparklenote.domain.repository.UserRepository;
+import com.sparklenote.paper.dto.response.PaperPageDTO;
 import com.sparklenote.paper.dto.response.PaperResponseDTO;
+import com.sparklenote.paper.event.PaperEventSequence;
 import com.sparklenote.paper.service.PaperService;
 import com.sparklenote.roll.dto.request.RollCreateRequestDto;
 import com.sparklenote.roll.dto.request.RollJoinRequestDto;
@@ -18,22 +24,34 @@ import com.sparklenote.roll.dto.response.RollJoinResponseDto;
 import com.sparklenote.roll.dto.response.RollResponseDTO;
 import com.sparklenote.roll.util.ClassCodeGenerator;
 import com.sparklenote.roll.util.UrlGenerator;
+import com.sparklenote.student.service.StudentService;
 import com.sparklenote.user.jwt.JWTUtil;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore;
 import com.sparklenote.user.oAuth2.CustomOAuth2User;
+import com.sparklenote.user.service.UserReferenceResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -60,20 +78,55 @@ public class RollServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private PaperRepository paperRepository;
+
+    @Mock
+    private StickerRepository stickerRepository;
+
+    @Mock
+    private PaperChangeRepository paperChangeRepository;
+
     @Mock
     private JWTUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenFamilyStore refreshTokenFamilyStore;
+
     @Mock
     private PaperService paperService;
 
+    @Mock
+    private PaperEventSequence paperEventSequence;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // replica 없음 (조회는 항상 그대로 실행)
+    @Spy
+    private ReadYourWrites readYourWrites = new ReadYourWrites(null, "", Duration.ofSeconds(3));
+
+    // 트랜잭션 없이 콜백만 실행
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private TransactionTemplate readOnlyTransactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private RollService rollService;
 
+    private CustomOAuth2User customOAuth2User;
+
 
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this); // 위에서 설정한 Mock 객체들을 전부 초기화 (안하면 null)
+        // 토큰에 uid가 없는 경우 username으로 User id를 조회 (mock userRepository 사용)
+        ReflectionTestUtils.setField(rollService, "userReferenceResolver", new UserReferenceResolver(userRepository));
+        // 학생 조회/등록은 mock studentRepository를 사용하는 실제 StudentService로 처리
+        ReflectionTestUtils.setField(rollService, "studentService", new StudentService(studentRepository));
 
 
         // SecurityContext, Authentication을 Mock처리
@@ -81,8 +134,9 @@ public class RollServiceTest {
         Authentication authentication = mock(Authentication.class); // 유저 개개인의 인증정보
 
         // CustomOAuth2 객체를 Mock으로 처리, username 값을 넣어줌
-        CustomOAuth2User customOAuth2User = mock(CustomOAuth2User.class);
+        customOAuth2User = mock(CustomOAuth2User.class);
         when(customOAuth2User.getUsername()).thenReturn("testUsername");
+        when(customOAuth2User.getUserId()).thenReturn(null);
 
         when(authentication.getPrincipal()).thenReturn(customOAuth2User); // 유저의 정보를 요청할 때는 mock 처리해 둔 customOAuth2User 객체를 반환
         when(securityContext.getAuthentication()).thenReturn(authentication); // 현재 인증정보를 가져오는 로직
@@ -101,6 +155,7 @@ public class RollServiceTest {
         String url = urlGenerator.generateUrl();
 
         User mockUser = User.builder()
+                .id(1L)
                 .username("testUsername")
                 .build();
 
@@ -108,6 +163,7 @@ public class RollServiceTest {
 
 
         given(userRepository.findByUsername("testUsername")).willReturn(Optional.of(mockUser)); // username이 같으면 같은 유저로 판단
+        given(userRepository.getReferenceById(1L)).willReturn(mockUser);
         given(urlGenerator.generateUrl()).willReturn(url); // 같은 url이면 같은 Roll이라고 판단
         given(rollRepository.save(any(Roll.class))).willReturn(roll); // 참조값까지 같은 필요 없으니까 러프하게 처리
 
@@ -121,6 +177,31 @@ public class RollServiceTest {
         assertThat(response.getRollName()).isEqualTo(requestDto.getRollName());
     }
 
+    @Test
+    @DisplayName("Roll 생성 - URL이 겹치면(uk_roll_url) 새 URL로 한 번 재시도")
+    void createRoll_duplicateUrl_retriesOnce() {
+        // GIVEN
+        RollCreateRequestDto requestDto = new RollCreateRequestDto("testRoll");
+        User mockUser = User.builder()
+                .id(1L)
+                .username("testUsername")
+                .build();
+
+        given(userRepository.findByUsername("testUsername")).willReturn(Optional.of(mockUser));
+        given(userRepository.getReferenceById(1L)).willReturn(mockUser);
+        given(urlGenerator.generateUrl()).willReturn("duplicated", "retried");
+        given(rollRepository.save(any(Roll.class)))
+                .willThrow(new DataIntegrityViolationException("uk_roll_url"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // WHEN
+        RollResponseDTO response = rollService.createRoll(requestDto);
+
+        // THEN
+        assertThat(response.getUrl()).isEqualTo("retried");
+        verify(rollRepository, times(2)).save(any(Roll.class));
+    }
+
     @Test
     @Order(2)
     @DisplayName("Roll 생성 - 실패 (사용자 조회 실패)")
@@ -144,12 +225,8 @@ public class RollServiceTest {
         // GIVEN
         RollCreateRequestDto requestDto = new RollCreateRequestDto("testRoll");
 
-        User user = User.builder()
-                .username("testUsername")
-                .role(Role.STUDENT)
-                .build();
-
-        given(userRepository.findByUsername("testUsername")).willReturn(Optional.of(user));
+        // 인증된 사용자의 role은 토큰 값 사용
+        given(customOAuth2User.getRole()).willReturn(Role.STUDENT);
 
         //WHEN & THEN
         assertThrows(RollException.class, () -> rollService.createRoll(requestDto));
@@ -165,10 +242,12 @@ public class RollServiceTest {
         RollCreateRequestDto requestDto = new RollCreateRequestDto("testRoll");
 
         User user = User.builder()
+                .id(1L)
                 .username("testUsername")
                 .build();
 
         given(userRepository.findByUsername("testUsername")).willReturn(Optional.of(user));
+        given(userRepository.getReferenceById(1L)).willReturn(user);
         given(urlGenerator.generateUrl()).willReturn(null);
 
         // WHEN & THEN
@@ -219,6 +298,7 @@ public class RollServiceTest {
                 .build();
 
         given(userRepository.findByUsername("testUsername")).willReturn(Optional.of(user));
+        given(userRepository.getReferenceById(1L)).willReturn(user);
         given(rollRepository.findAllByUser(user)).willReturn(List.of(roll1, roll2));
 
         // WHEN
@@ -240,10 +320,12 @@ public class RollServiceTest {
 
         // GIVEN
         User user = User.builder()
+                .id(1L)
                 .username("testUsername")
                 .build();
 
         given(userRepository.findByUsername("testUsername")).willReturn(Optional.of(user));
+        given(userRepository.getReferenceById(1L)).willReturn(user);
 
         // WHEN & THEN
         assertThat(rollService.getMyRolls().size()).isEqualTo(0);
@@ -329,17 +411,31 @@ public class RollServiceTest {
     void deleteRoll_success() {
 
         //GIVEN
+        User user = User.builder()
+                .id(1L)
+                .username("testUsername")
+                .build();
+
         Roll roll = Roll.builder()
                 .id(1L)
+                .user(user)
                 .build();
 
+        given(userRepository.findByUsername("testUsername")).willReturn(Optional.of(user));
         given(rollRepository.findById(1L)).willReturn(Optional.of(roll));
 
         // WHEN
         rollService.deleteRoll(1L);
 
-        // THEN
-        verify(rollRepository, times(1)).delete(roll);
+        // THEN : 자식 엔티티를 조회하지 않고 FK 순서대로 일괄 삭제
+        InOrder inOrder = inOrder(stickerRepository, paperRepository, studentRepository, rollRepository);
+        inOrder.verify(stickerRepository).bulkDeleteByRollId(1L);
+        inOrder.verify(paperRepository).bulkDeleteByRollId(1L);
+        inOrder.verify(studentRepository).bulkDeleteByRollId(1L);
+        inOrder.verify(rollRepository).bulkDeleteById(1L);
+        verify(paperChangeRepository).bulkDeleteByRollId(1L);
+        verify(rollRepository, never()).delete(any(Roll.class));
+        verify(paperService).afterRollDeleted(1L); // 커밋 후 목록 캐시 비우기, roll 버전 올리기
     }
 
     @Test
@@ -348,10 +444,17 @@ public class RollServiceTest {
     void deleteRoll_fail_roll_not_found() {
 
         // GIVEN
+        User user = User.builder()
+                .id(1L)
+                .username("testUsername")
+                .build();
+
+        given(userRepository.findByUsername("testUsername")).willReturn(Optional.of(user));
         given(rollRepository.findById(1L)).willReturn(Optional.empty());
 
         // WHEN & THEN
         assertThrows(RollException.class, () -> rollService.deleteRoll(1L));
+        verify(paperService, never()).afterRollDeleted(any());
     }
 
     @Test
@@ -380,9 +483,9 @@ public class RollServiceTest {
         List<PaperResponseDTO> papers = List.of(new PaperResponseDTO());
 
         given(rollRepository.findByUrl(url)).willReturn(Optional.of(roll));
-        given(studentRepository.findByNameAndPinNumberAndRollId("홍길동", 1010, 1L)).willReturn(Optional.of(student));
-        given(studentRepository.save(any(Student.class))).willReturn(student);
-        given(paperService.getPapers(roll.getId())).willReturn(papers);
+        given(studentRepository.findByNameAndPinNumberAndRollId("홍길동", "1010", 1L)).willReturn(Optional.of(student));
+        given(studentRepository.saveAndFlush(any(Student.class))).willReturn(student);
+        given(paperService.getPapers(roll.getId(), null, PaperService.DEFAULT_PAGE_SIZE)).willReturn(new PaperPageDTO(papers, null));
 
         // WHEN
         RollJoinResponseDto responseDto = rollService.joinRoll(url, requestDto);
@@ -456,9 +559,9 @@ public class RollServiceTest {
         List<PaperResponseDTO> papers = List.of(new PaperResponseDTO());
 
         given(rollRepository.findByUrl(url)).willReturn(Optional.of(roll));
-        given(studentRepository.findByNameAndPinNumberAndRollId("홍길동", 1010, 1L)).willReturn(Optional.empty());
-        given(studentRepository.save(any(Student.class))).willReturn(student);
-        given(paperService.getPapers(roll.getId())).willReturn(papers);
+        given(studentRepository.findByNameAndPinNumberAndRollId("홍길동", "1010", 1L)).willReturn(Optional.empty());
+        given(studentRepository.saveAndFlush(any(Student.class))).willReturn(student);
+        given(paperService.getPapers(roll.getId(), null, PaperService.DEFAULT_PAGE_SIZE)).willReturn(new PaperPageDTO(papers, null));
 
         //WHEN
         RollJoinResponseDto responseDto = rollService.joinRoll(url, requestDto);
@@ -493,8 +596,8 @@ public class RollServiceTest {
                 .build();
 
         given(rollRepository.findByUrl(url)).willReturn(Optional.of(roll));
-        given(studentRepository.findByNameAndPinNumberAndRollId(student.getName(), 1234, 1L)).willReturn(Optional.of(student));
-        given(paperService.getPapers(roll.getId())).willReturn(Collections.emptyList());
+        given(studentRepository.findByNameAndPinNumberAndRollId(student.getName(), "1234", 1L)).willReturn(Optional.of(student));
+        given(paperService.getPapers(roll.getId(), null, PaperService.DEFAULT_PAGE_SIZE)).willReturn(new PaperPageDTO(Collections.emptyList(), null));
 
         //WHEN
         RollJoinResponseDto responseDto = rollService.joinRoll(url, requestDto);
@@ -507,4 +610,77 @@ public class RollServiceTest {
 
     }
 
+
+    @Test
+    @Order(19)
+    @DisplayName("Roll 입장 - 동시 입장으로 저장이 유니크 제약에 걸리면 먼저 등록된 학생으로 입장")
+    void joinRoll_success_concurrent_duplicate() {
+
+        //GIVEN
+        String url = urlGenerator.generateUrl();
+        RollJoinRequestDto requestDto = new RollJoinRequestDto("테스트", 1234, "1234");
+
+        Roll roll = Roll.builder()
+                .id(1L)
+                .rollName("테스트용 롤")
+                .classCode(1234)
+                .url(url)
+                .build();
+
+        Student student = Student.builder()
+                .id(7L)
+                .pinNumber("1234")
+                .name("테스트")
+                .build();
+
+        given(rollRepository.findByUrl(url)).willReturn(Optional.of(roll));
+        given(studentRepository.findByNameAndPinNumberAndRollId("테스트", "1234", 1L))
+                .willReturn(Optional.empty(), Optional.of(student));
+        given(studentRepository.saveAndFlush(any(Student.class)))
+                .willThrow(new DataIntegrityViolationException("uk_student_roll_name_pin"));
+        given(paperService.getPapers(roll.getId(), null, PaperService.DEFAULT_PAGE_SIZE)).willReturn(new PaperPageDTO(Collections.emptyList(), null));
+
+        //WHEN
+        RollJoinResponseDto responseDto = rollService.joinRoll(url, requestDto);
+
+        //THEN
+        assertThat(responseDto.getStudentId()).isEqualTo(7L);
+        assertThat(meterRegistry.get("roll.join").tag("outcome", "joined").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Roll 입장 - 성공 (paper 목록 없이 토큰과 roll 버전만 응답)")
+    void joinRoll_success_without_papers() {
+
+        //GIVEN
+        String url = urlGenerator.generateUrl();
+        RollJoinRequestDto requestDto = new RollJoinRequestDto("테스트", 1234, "1234");
+
+        Roll roll = Roll.builder()
+                .id(1L)
+                .rollName("테스트용 롤")
+                .classCode(1234)
+                .url(url)
+                .build();
+
+        Student student = Student.builder()
+                .id(1L)
+                .pinNumber("1234")
+                .name("테스트")
+                .build();
+
+        given(rollRepository.findByUrl(url)).willReturn(Optional.of(roll));
+        given(studentRepository.findByNameAndPinNumberAndRollId("테스트", "1234", 1L)).willReturn(Optional.of(student));
+        given(paperEventSequence.version(1L)).willReturn(42L);
+
+        //WHEN
+        RollJoinResponseDto responseDto = rollService.joinRoll(url, requestDto, false);
+
+        //THEN
+        assertThat(responseDto.getRollVersion()).isEqualTo(42L);
+        assertThat(responseDto.getPapers()).isNull();
+        verify(paperService, never()).getPapers(any(), any(), anyInt());
+    }
+
 }
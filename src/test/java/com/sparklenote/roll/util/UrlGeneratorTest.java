@@ -0,0 +1,114 @@
+package com.sparklenote.roll.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class UrlGeneratorTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("여러 스레드, 여러 노드에서 동시에 생성해도 URL이 겹치지 않는다")
+    void generateUrl_concurrent_noCollision() throws Exception {
+        // GIVEN
+        UrlGenerator node1 = new UrlGenerator(1);
+        UrlGenerator node2 = new UrlGenerator(2);
+        Set<String> urls = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // WHEN : 노드당 4스레드 x 25,000개 (같은 ms 안의 순번 초과 구간 포함)
+        for (int i = 0; i < 8; i++) {
+            UrlGenerator generator = i % 2 == 0 ? node1 : node2;
+            executor.submit(() -> {
+                for (int j = 0; j < 25_000; j++) {
+                    urls.add(generator.generateUrl());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        // THEN
+        assertThat(urls).hasSize(200_000);
+    }
+
+    @Test
+    @DisplayName("URL은 11자리 base62 문자열이다")
+    void generateUrl_format() {
+        // GIVEN
+        UrlGenerator generator = new UrlGenerator(0);
+
+        // THEN
+        assertThat(generator.generateUrl()).matches("[0-9A-Za-z]{11}");
+    }
+
+    @Test
+    @DisplayName("노드 번호는 Redis INCR 값부터 비어 있는 번호를 임대한다")
+    void assignNodeId_fromRedis() {
+        // GIVEN : INCR 1025 -> 1번부터, 1번은 다른 노드가 임대 중
+        given(valueOperations.increment(UrlGenerator.NODE_KEY)).willReturn(1025L);
+        given(valueOperations.setIfAbsent(eq(UrlGenerator.NODE_LEASE_PREFIX + 1), anyString(), eq(UrlGenerator.LEASE_TTL)))
+                .willReturn(false);
+        given(valueOperations.setIfAbsent(eq(UrlGenerator.NODE_LEASE_PREFIX + 2), anyString(), eq(UrlGenerator.LEASE_TTL)))
+                .willReturn(true);
+        UrlGenerator generator = new UrlGenerator(redisTemplate, -1);
+
+        // WHEN
+        generator.assignNodeId();
+        generator.releaseNodeId();
+
+        // THEN : 10bit로 자른 번호(1)가 임대 중이므로 다음 번호(2) 사용
+        assertThat((generator.nextId() >>> 12) & 1023).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis에서 노드 번호를 발급받지 못하면 기동에 실패한다")
+    void assignNodeId_redisDown_fails() {
+        // GIVEN
+        given(valueOperations.increment(UrlGenerator.NODE_KEY)).willThrow(new RedisConnectionFailureException("down"));
+        UrlGenerator generator = new UrlGenerator(redisTemplate, -1);
+
+        // WHEN & THEN
+        assertThatThrownBy(generator::assignNodeId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("roll.url.node-id를 지정하면 Redis 없이 그 번호를 사용한다")
+    void assignNodeId_configured() {
+        // GIVEN
+        UrlGenerator generator = new UrlGenerator(redisTemplate, 7);
+
+        // WHEN
+        generator.assignNodeId();
+
+        // THEN
+        assertThat((generator.nextId() >>> 12) & 1023).isEqualTo(7);
+        verifyNoInteractions(redisTemplate);
+    }
+}
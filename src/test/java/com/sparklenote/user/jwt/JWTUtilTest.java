@@ -0,0 +1,55 @@
+package com.sparklenote.user.jwt;
+
+import com.sparklenote.domain.enumType.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JWTUtilTest {
+
+    private static final String SECRET = "sparkle-note-test-secret-key-for-hs256-signing";
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET);
+
+    @Test
+    @DisplayName("verify - 한 번의 파싱으로 모든 claim을 반환")
+    void verify_success() {
+        // GIVEN
+        String token = jwtUtil.createAccessToken("teacher@test.com", "선생님", Role.TEACHER, 60_000L);
+
+        // WHEN
+        Optional<JwtClaims> claims = jwtUtil.verify(token);
+
+        // THEN
+        assertThat(claims).isPresent();
+        assertThat(claims.get().username()).isEqualTo("teacher@test.com");
+        assertThat(claims.get().name()).isEqualTo("선생님");
+        assertThat(claims.get().role()).isEqualTo("TEACHER");
+        assertThat(claims.get().expiration()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("verify - 만료된 토큰이면 empty")
+    void verify_expired() {
+        // GIVEN
+        String token = jwtUtil.createAccessToken("teacher@test.com", "선생님", Role.TEACHER, -1_000L);
+
+        // THEN
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verify - 다른 키로 서명된 토큰이면 empty")
+    void verify_wrongSignature() {
+        // GIVEN
+        JWTUtil otherJwtUtil = new JWTUtil(SECRET + "-other");
+        String token = otherJwtUtil.createAccessToken("teacher@test.com", "선생님", Role.TEACHER, 60_000L);
+
+        // THEN
+        assertThat(jwtUtil.verify(token)).isEmpty();
+        assertThat(jwtUtil.verify("not-a-jwt")).isEmpty();
+    }
+}
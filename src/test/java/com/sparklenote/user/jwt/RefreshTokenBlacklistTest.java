@@ -0,0 +1,143 @@
+package com.sparklenote.user.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenBlacklistTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+
+    private RefreshTokenBlacklist refreshTokenBlacklist;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        refreshTokenBlacklist = new RefreshTokenBlacklist(redisTemplate, mock(RedisMessageListenerContainer.class),
+                1000, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("revoke되지 않은 토큰은 Redis 조회 없이 통과한다")
+    void isRevoked_notRevoked_noRoundTrip() {
+        // THEN
+        assertThat(refreshTokenBlacklist.isRevoked("token", claims("jti-1"))).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("revoke한 토큰은 남은 유효시간 동안 Redis에 저장되고 거부된다")
+    void revoke_storesWithRemainingTtl() {
+        // GIVEN
+        when(redisTemplate.hasKey("revoked:refresh:jti-1")).thenReturn(true);
+
+        // WHEN
+        refreshTokenBlacklist.revoke("token", claims("jti-1"));
+
+        // THEN
+        verify(valueOperations).set(eq("revoked:refresh:jti-1"), eq("loggedOut"), longThat(ttl -> ttl > 0 && ttl <= 60_000L), any());
+        verify(redisTemplate).convertAndSend(RefreshTokenBlacklist.CHANNEL, "jti-1");
+        assertThat(refreshTokenBlacklist.isRevoked("token", claims("jti-1"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis에 저장하지 못해도 revoke는 실패하지 않고 이 노드에서는 재구성 후에도 거부한다")
+    void revoke_redisDown_keepsLocalEntry() {
+        // GIVEN
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(emptyCursor());
+
+        // WHEN
+        assertThatCode(() -> refreshTokenBlacklist.revoke("token", claims("jti-3"))).doesNotThrowAnyException();
+        refreshTokenBlacklist.rebuild();
+
+        // THEN
+        assertThat(refreshTokenBlacklist.isRevoked("token", claims("jti-3"))).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("bloom filter에 걸린 토큰을 Redis로 확인하지 못하면 revoke된 것으로 보고 거부한다")
+    void isRevoked_redisDown_failsClosed() {
+        // GIVEN : 다른 노드의 revoke로 filter에 있음, Redis 조회 실패
+        refreshTokenBlacklist.onMessage(new DefaultMessage(
+                RefreshTokenBlacklist.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "jti-4".getBytes(StandardCharsets.UTF_8)), null);
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // WHEN & THEN : filter에 있는 토큰은 거부, 없는 토큰은 Redis 조회 없이 통과
+        assertThat(refreshTokenBlacklist.isRevoked("token", claims("jti-4"))).isTrue();
+        assertThat(refreshTokenBlacklist.isRevoked("token", claims("jti-5"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 revoke된 토큰도 Redis로 확인 후 거부한다")
+    void onMessage_addsToFilter() {
+        // GIVEN
+        when(redisTemplate.hasKey("revoked:refresh:jti-2")).thenReturn(true);
+
+        // WHEN
+        refreshTokenBlacklist.onMessage(new DefaultMessage(
+                RefreshTokenBlacklist.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "jti-2".getBytes(StandardCharsets.UTF_8)), null);
+
+        // THEN
+        assertThat(refreshTokenBlacklist.isRevoked("token", claims("jti-2"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("bloom filter 오탐률은 설정한 값 근처로 유지된다")
+    void bloomFilter_falsePositiveRate() {
+        // GIVEN
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        // WHEN
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // THEN
+        assertThat(filter.mightContain("revoked-42")).isTrue();
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    // Redis에 남은 revoke 없음 (mock의 forEachRemaining은 아무것도 넘기지 않음)
+    @SuppressWarnings("unchecked")
+    private Cursor<String> emptyCursor() {
+        return mock(Cursor.class);
+    }
+
+    private JwtClaims claims(String jti) {
+        return new JwtClaims(jti, null, null, "teacher@test.com", null, null, new Date(System.currentTimeMillis() + 60_000L));
+    }
+}
@@ -0,0 +1,133 @@
+package com.sparklenote.user.jwt;
+
+import com.sparklenote.domain.enumType.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private final JWTUtil jwtUtil = spy(new JWTUtil("sparkle-note-test-secret-key-for-hs256-signing"));
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, redisTemplate, mock(RedisMessageListenerContainer.class),
+                true, 100, meterRegistry);
+        token = jwtUtil.createAccessToken("teacher@test.com", "선생님", Role.TEACHER, 60_000L);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 파싱한다")
+    void verify_cached() {
+        // WHEN
+        verifiedTokenCache.verify(token);
+        verifiedTokenCache.verify(token);
+
+        // THEN
+        assertThat(verifiedTokenCache.verify(token)).get().extracting(JwtClaims::username).isEqualTo("teacher@test.com");
+        verify(jwtUtil, times(1)).verify(token);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 캐시에 있어도 거부하고 다른 노드에 전달한다")
+    void revoke_rejectsCachedToken() {
+        // GIVEN
+        verifiedTokenCache.verify(token);
+
+        // WHEN
+        verifiedTokenCache.revoke(token);
+
+        // THEN
+        assertThat(verifiedTokenCache.verify(token)).isEmpty();
+        verify(valueOperations).set(eq(VerifiedTokenCache.REVOKED_KEY_PREFIX + VerifiedTokenCache.digest(token)),
+                any(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(redisTemplate).convertAndSend(eq(VerifiedTokenCache.REVOKED_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("pub/sub 메시지를 받지 못한 노드도 Redis에 기록된 revoke로 거부한다")
+    void verify_revokedInRedis() {
+        // GIVEN : 다른 노드에서 로그아웃 (이 노드는 메시지를 받지 못함)
+        given(redisTemplate.hasKey(VerifiedTokenCache.REVOKED_KEY_PREFIX + VerifiedTokenCache.digest(token))).willReturn(true);
+
+        // WHEN & THEN
+        assertThat(verifiedTokenCache.verify(token)).isEmpty();
+        assertThat(verifiedTokenCache.verify(token)).isEmpty();
+        verify(jwtUtil, times(1)).verify(token); // 이후에는 로컬 revoked 목록으로 거부
+    }
+
+    @Test
+    @DisplayName("캐시를 꺼도 로그아웃한 토큰은 거부한다")
+    void verify_cacheDisabled_checksRevocation() {
+        // GIVEN
+        VerifiedTokenCache uncached = new VerifiedTokenCache(jwtUtil, redisTemplate, mock(RedisMessageListenerContainer.class),
+                false, 100, meterRegistry);
+        assertThat(uncached.verify(token)).isPresent();
+
+        // WHEN
+        uncached.revoke(token);
+
+        // THEN
+        assertThat(uncached.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중에도 로그아웃은 실패하지 않고 이 노드에서는 거부한다")
+    void revoke_redisDown() {
+        // GIVEN
+        given(redisTemplate.hasKey(anyString())).willThrow(new RedisConnectionFailureException("down"));
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(valueOperations).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+
+        // WHEN & THEN
+        assertThat(verifiedTokenCache.verify(token)).isPresent();
+        assertThatCode(() -> verifiedTokenCache.revoke(token)).doesNotThrowAnyException();
+        assertThat(verifiedTokenCache.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 revoke된 토큰은 거부한다")
+    void onMessage_revokes() {
+        // GIVEN
+        verifiedTokenCache.verify(token);
+        String body = VerifiedTokenCache.digest(token) + ":" + (System.currentTimeMillis() + 60_000L);
+
+        // WHEN
+        verifiedTokenCache.onMessage(new DefaultMessage(
+                VerifiedTokenCache.REVOKED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // THEN
+        assertThat(verifiedTokenCache.verify(token)).isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package com.sparklenote.user.service;
+
+import com.sparklenote.common.exception.UserException;
+import com.sparklenote.domain.entity.User;
+import com.sparklenote.domain.repository.UserRepository;
+import com.sparklenote.user.oAuth2.CustomOAuth2User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class UserReferenceResolverTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserReferenceResolver userReferenceResolver = new UserReferenceResolver(userRepository);
+
+    @Test
+    @DisplayName("uid가 있는 토큰은 DB 조회 없이 id를 반환")
+    void getUserId_fromToken() {
+        // GIVEN
+        CustomOAuth2User principal = mock(CustomOAuth2User.class);
+        given(principal.getUserId()).willReturn(7L);
+
+        // THEN
+        assertThat(userReferenceResolver.getUserId(principal)).isEqualTo(7L);
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("uid가 없는 토큰은 username으로 한 번만 조회하고 캐시")
+    void getUserId_legacyToken_cached() {
+        // GIVEN
+        CustomOAuth2User principal = mock(CustomOAuth2User.class);
+        given(principal.getUserId()).willReturn(null);
+        given(principal.getUsername()).willReturn("teacher@test.com");
+        given(userRepository.findByUsername("teacher@test.com"))
+                .willReturn(Optional.of(User.builder().id(7L).build()));
+
+        // WHEN
+        userReferenceResolver.getUserId(principal);
+        Long userId = userReferenceResolver.getUserId(principal);
+
+        // THEN
+        assertThat(userId).isEqualTo(7L);
+        verify(userRepository, times(1)).findByUsername("teacher@test.com");
+    }
+
+    @Test
+    @DisplayName("없는 사용자면 USER_NOT_FOUND")
+    void getUserId_notFound() {
+        // GIVEN
+        CustomOAuth2User principal = mock(CustomOAuth2User.class);
+        given(principal.getUserId()).willReturn(null);
+        given(principal.getUsername()).willReturn("unknown");
+        given(userRepository.findByUsername("unknown")).willReturn(Optional.empty());
+
+        // THEN
+        assertThrows(UserException.class, () -> userReferenceResolver.getUserId(principal));
+    }
+}
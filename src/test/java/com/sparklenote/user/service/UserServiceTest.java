@@ -0,0 +1,94 @@
+package com.sparklenote.user.service;
+
+import com.sparklenote.common.exception.UserException;
+import com.sparklenote.domain.enumType.Role;
+import com.sparklenote.domain.repository.UserRepository;
+import com.sparklenote.user.dto.response.TokenResponseDTO;
+import com.sparklenote.user.jwt.JWTUtil;
+import com.sparklenote.user.jwt.JwtClaims;
+import com.sparklenote.user.jwt.RefreshTokenBlacklist;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore.Rotation;
+import com.sparklenote.user.jwt.RefreshTokenFamilyStore.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static com.sparklenote.common.error.code.UserErrorCode.TOKEN_IS_REVOKED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    private static final String REFRESH_TOKEN = "refresh-token";
+
+    @Mock
+    private JWTUtil jwtUtil;
+
+    @Mock
+    private RefreshTokenBlacklist refreshTokenBlacklist;
+
+    @Mock
+    private RefreshTokenFamilyStore refreshTokenFamilyStore;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserService userService;
+
+    private final JwtClaims claims = new JwtClaims("jti-1", "family-1", null, "teacher@test.com", null, null,
+            new Date(System.currentTimeMillis() + 60_000L));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userService, "accessTokenExpiration", 60_000L);
+        given(jwtUtil.verify(REFRESH_TOKEN)).willReturn(Optional.of(claims));
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - 새 refresh token으로 교체되고 DB는 조회하지 않음")
+    void refreshToken_rotated() {
+        // GIVEN
+        given(refreshTokenFamilyStore.rotate(claims))
+                .willReturn(new Rotation(Status.ROTATED, "new-refresh-token", 1L, "teacher@test.com", "선생님", Role.TEACHER));
+        given(jwtUtil.createAccessToken(1L, "teacher@test.com", "선생님", Role.TEACHER, 60_000L)).willReturn("new-access-token");
+
+        // WHEN
+        TokenResponseDTO response = userService.refreshToken(REFRESH_TOKEN);
+
+        // THEN
+        assertThat(response.getAccessToken()).isEqualTo("new-access-token");
+        assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - 이미 교체된 토큰을 재사용하면 거부")
+    void refreshToken_reused() {
+        // GIVEN
+        given(refreshTokenFamilyStore.rotate(claims))
+                .willReturn(new Rotation(Status.REUSED, null, null, null, null, null));
+
+        // WHEN
+        UserException exception = assertThrows(UserException.class, () -> userService.refreshToken(REFRESH_TOKEN));
+
+        // THEN
+        assertThat(exception.getErrorCode()).isEqualTo(TOKEN_IS_REVOKED);
+        verify(jwtUtil, never()).createAccessToken(any(), anyString(), any(), any(), any());
+    }
+}